@@ -55,9 +55,27 @@ application {
 }
 
 tasks.test {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
     testLogging {
         events(*org.gradle.api.tasks.testing.logging.TestLogEvent.values())
         showStandardStreams = true
     }
 }
+
+// Benchmarks are tagged "benchmark" and run only with: ./gradlew benchmark
+tasks.register<Test>("benchmark") {
+    description = "Runs the benchmarks."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    // A fresh JVM per benchmark, so that process-wide caches start cold
+    forkEvery = 1
+    testLogging {
+        showStandardStreams = true
+    }
+}
@@ -1,6 +1,8 @@
 package mindescape.app;
 
 import mindescape.controller.maincontroller.impl.MainControllerImpl;
+import mindescape.model.executor.impl.ManagedExecutorImpl;
+import mindescape.model.world.rooms.impl.RoomImpl;
 
 /**
  * The main class of the application.
@@ -16,6 +18,8 @@ final class MindEscape {
      * @param args the command line arguments
      */
     public static void main(final String[] args) {
+        // the rooms are parsed while the menu is shown, so that the first game starts at once
+        ManagedExecutorImpl.getInstance().execute(RoomImpl::createRooms);
         new MainControllerImpl().start();
     }
 }
@@ -1,8 +1,21 @@
 package mindescape.controller.core.api;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /**
  * The LoopController interface defines the contract for controlling the game loop.
  * It extends the Controller interface and provides methods to start and stop the game loop.
  */
 public interface LoopController extends Controller {
+
+    /**
+     * Runs a task on the thread of the game loop, between two ticks, so that it sees the model
+     * in a consistent state. If the loop is not running the task is run on the calling thread.
+     *
+     * @param <T> the type of the result
+     * @param task the task to run
+     * @return a future completed with the result of the task
+     */
+    <T> CompletableFuture<T> runOnLoop(Supplier<T> task);
 }
@@ -31,4 +31,20 @@ public enum UserInput {
      */
     INVENTORY;
 
+    /**
+     * Returns the bit of this input in a mask of inputs, where each input owns the bit of its ordinal.
+     * @return the mask containing only this input.
+     */
+    public int getMask() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * Tells whether this input belongs to a mask of inputs.
+     * @param mask the mask of inputs.
+     * @return true if the bit of this input is set, false otherwise.
+     */
+    public boolean isIn(final int mask) {
+        return (mask & getMask()) != 0;
+    }
 }
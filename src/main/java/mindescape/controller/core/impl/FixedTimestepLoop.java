@@ -0,0 +1,146 @@
+package mindescape.controller.core.impl;
+
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A game loop that advances the simulation with a fixed timestep and renders independently of it.
+ * <p>
+ * Time is measured with {@link System#nanoTime()}. Every iteration runs as many ticks as the elapsed
+ * time requires (up to a small limit, to avoid spiraling when the machine cannot keep up),
+ * then, if a frame is due, renders passing how far the loop is between the last tick and the next one,
+ * so that the view can interpolate. The simulation therefore advances at the same speed whatever the frame rate and however
+ * late the thread is woken up.
+ * </p>
+ */
+public final class FixedTimestepLoop implements Runnable {
+
+    /**
+     * The system property used to configure the number of ticks per second.
+     */
+    public static final String TICK_RATE_PROPERTY = "mindescape.tickrate";
+
+    /**
+     * The system property used to configure the maximum number of frames per second.
+     */
+    public static final String FRAME_RATE_PROPERTY = "mindescape.fps";
+
+    /**
+     * The default number of ticks per second.
+     */
+    public static final int DEFAULT_TICK_RATE = 60;
+
+    /**
+     * The default maximum number of frames per second.
+     */
+    public static final int DEFAULT_FRAME_RATE = 120;
+
+    private static final int MAX_CATCH_UP_TICKS = 5;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long tickNanos;
+    private final long frameNanos;
+    private final Runnable tick;
+    private final DoubleConsumer render;
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a loop with the given rates.
+     *
+     * @param tickRate the number of simulation ticks per second
+     * @param frameRate the maximum number of frames rendered per second
+     * @param tick the action that advances the simulation by one tick
+     * @param render the action that renders a frame, it receives the interpolation factor
+     *     between the last tick and the next one, in {@code [0, 1)}
+     * @throws IllegalArgumentException if a rate is not positive
+     */
+    public FixedTimestepLoop(final int tickRate, final int frameRate, final Runnable tick, final DoubleConsumer render) {
+        if (tickRate <= 0 || frameRate <= 0) {
+            throw new IllegalArgumentException("Tick rate and frame rate must be positive");
+        }
+        this.tickNanos = NANOS_PER_SECOND / tickRate;
+        this.frameNanos = NANOS_PER_SECOND / frameRate;
+        this.tick = Objects.requireNonNull(tick);
+        this.render = Objects.requireNonNull(render);
+    }
+
+    /**
+     * Constructs a loop with the rates configured by the {@value #TICK_RATE_PROPERTY} and
+     * {@value #FRAME_RATE_PROPERTY} system properties.
+     *
+     * @param tick the action that advances the simulation by one tick
+     * @param render the action that renders a frame, it receives the interpolation factor
+     */
+    public FixedTimestepLoop(final Runnable tick, final DoubleConsumer render) {
+        this(Integer.getInteger(TICK_RATE_PROPERTY, DEFAULT_TICK_RATE),
+            Integer.getInteger(FRAME_RATE_PROPERTY, DEFAULT_FRAME_RATE),
+            tick, render);
+    }
+
+    /**
+     * Runs the loop on the calling thread until {@link #stop()} is called.
+     * If a tick or a frame throws the loop ends, and it is no longer running.
+     */
+    @Override
+    public void run() {
+        try {
+            long previous = System.nanoTime();
+            long nextFrame = previous;
+            long accumulator = 0;
+            while (running) {
+                final long now = System.nanoTime();
+                accumulator += now - previous;
+                previous = now;
+
+                int ticks = 0;
+                while (accumulator >= tickNanos && ticks < MAX_CATCH_UP_TICKS && running) {
+                    tick.run();
+                    accumulator -= tickNanos;
+                    ticks++;
+                }
+                if (accumulator >= tickNanos) {
+                    // too far behind: drop the backlog instead of trying to catch up forever
+                    accumulator %= tickNanos;
+                }
+                if (running && now - nextFrame >= 0) {
+                    render.accept((double) accumulator / tickNanos);
+                    nextFrame = now + frameNanos;
+                }
+
+                final long wakeUp = Math.min(now + tickNanos - accumulator, nextFrame);
+                final long remaining = wakeUp - System.nanoTime();
+                if (remaining > 0) {
+                    LockSupport.parkNanos(remaining);
+                }
+            }
+        } finally {
+            running = false;
+        }
+    }
+
+    /**
+     * Stops the loop, the current iteration is completed.
+     */
+    public void stop() {
+        this.running = false;
+    }
+
+    /**
+     * Tells whether the loop is running or about to run.
+     *
+     * @return false once {@link #stop()} has been called or the loop has ended
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Returns the duration of a tick.
+     *
+     * @return the duration of a tick in nanoseconds
+     */
+    public long getTickNanos() {
+        return this.tickNanos;
+    }
+}
@@ -0,0 +1,73 @@
+package mindescape.controller.core.impl;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.controller.core.api.UserInput;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Movement;
+
+/**
+ * Advances a world by one tick, the same way for the game loop and for the headless sessions.
+ * <p>
+ * The held inputs are applied in the order of {@link UserInput}: the movements are made on the world,
+ * the interaction and the inventory are handed to the owner of the world and end the inputs of the
+ * tick, since they may leave the world. Then the play time is advanced and the events are published.
+ * </p>
+ */
+public final class WorldTick {
+
+    private static final UserInput[] INPUTS = UserInput.values();
+
+    private final World world;
+    private final Consumer<UserInput> actions;
+
+    /**
+     * Constructs the tick of a world.
+     *
+     * @param world the world to advance
+     * @param actions receives the {@link UserInput#INTERACT} and {@link UserInput#INVENTORY} inputs
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The tick advances the given world on purpose")
+    public WorldTick(final World world, final Consumer<UserInput> actions) {
+        this.world = Objects.requireNonNull(world);
+        this.actions = Objects.requireNonNull(actions);
+    }
+
+    /**
+     * Applies the held inputs, then advances the play time and publishes the events of the tick.
+     *
+     * @param inputs the mask of the held inputs
+     * @param elapsed the play time of a tick
+     */
+    public void run(final int inputs, final Duration elapsed) {
+        for (final UserInput input : INPUTS) {
+            if (input.isIn(inputs)) {
+                apply(input);
+                if (input == UserInput.INTERACT || input == UserInput.INVENTORY) {
+                    break;
+                }
+            }
+        }
+        world.addPlayTime(elapsed);
+        world.flushEvents();
+    }
+
+    /**
+     * Applies a single input.
+     *
+     * @param input the input to apply
+     */
+    public void apply(final UserInput input) {
+        switch (input) {
+            case UP -> this.world.movePlayer(Movement.UP);
+            case DOWN -> this.world.movePlayer(Movement.DOWN);
+            case LEFT -> this.world.movePlayer(Movement.LEFT);
+            case RIGHT -> this.world.movePlayer(Movement.RIGHT);
+            case INTERACT, INVENTORY -> this.actions.accept(input);
+            default -> throw new IllegalArgumentException("Unknown input: " + input);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package mindescape.controller.headless.api;
+
+import mindescape.model.world.api.World;
+
+/**
+ * Runs a world without any view, for soak tests and to validate games on a server.
+ * <p>
+ * A tick does what the tick of the world controller does, with the inputs read from an
+ * {@link InputSource}. Sessions share no state, so many of them can run in the same process.
+ * </p>
+ */
+public interface HeadlessSession {
+
+    /**
+     * Returns the world run by the session.
+     *
+     * @return the world
+     */
+    World getWorld();
+
+    /**
+     * Advances the world by one tick, on the calling thread.
+     */
+    void tick();
+
+    /**
+     * Advances the world by a number of ticks as fast as possible, on the calling thread.
+     * It stops early if the game is won.
+     *
+     * @param ticks the number of ticks
+     */
+    void run(long ticks);
+
+    /**
+     * Returns the number of ticks run so far.
+     *
+     * @return the number of ticks
+     */
+    long getTicks();
+
+    /**
+     * Starts advancing the world in real time on the executor of the game, with the fixed timestep
+     * loop of the game.
+     *
+     * @param tickRate the number of ticks per second
+     * @throws IllegalStateException if the session is already running
+     */
+    void start(int tickRate);
+
+    /**
+     * Stops the thread started by {@link #start(int)}, the current tick is completed.
+     */
+    void stop();
+}
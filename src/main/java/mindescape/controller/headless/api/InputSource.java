@@ -0,0 +1,27 @@
+package mindescape.controller.headless.api;
+
+import mindescape.controller.core.api.UserInput;
+
+/**
+ * Where a {@link HeadlessSession} reads the inputs of the player from, in place of the keyboard.
+ */
+@FunctionalInterface
+public interface InputSource {
+
+    /**
+     * Returns the inputs held during a tick.
+     *
+     * @param tick the number of the tick, starting from 0
+     * @return the mask of the inputs held, as built by {@link UserInput#getMask()}, 0 if none
+     */
+    int poll(long tick);
+
+    /**
+     * Returns a source that never presses anything.
+     *
+     * @return the idle source
+     */
+    static InputSource idle() {
+        return tick -> 0;
+    }
+}
@@ -0,0 +1,165 @@
+package mindescape.controller.headless.impl;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.controller.core.api.UserInput;
+import mindescape.controller.core.impl.FixedTimestepLoop;
+import mindescape.controller.core.impl.WorldTick;
+import mindescape.controller.headless.api.HeadlessSession;
+import mindescape.controller.headless.api.InputSource;
+import mindescape.model.enigma.api.Enigma;
+import mindescape.model.executor.impl.ManagedExecutorImpl;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.FrameState;
+import mindescape.model.world.core.api.WorldObserver;
+import mindescape.model.world.events.api.WorldEvent;
+
+/**
+ * Implementation of the {@link HeadlessSession} interface.
+ * <p>
+ * Only the model and the loop are used, no view nor window is created, and every tick is the
+ * {@link WorldTick} of the game loop; the inventory input only opens a view, hence it is ignored.
+ * The enigmas the player interacts with are handed to a consumer, which may solve them.
+ * </p>
+ * <p>
+ * The session is not free of AWT classes: the map parser, TiledReader, gives the colors of the
+ * maps as {@code java.awt.Color}, so loading a room loads that class and the AWT native library
+ * it initializes. No toolkit nor display is needed, so sessions also run with
+ * {@code java.awt.headless} set.
+ * </p>
+ */
+public final class HeadlessSessionImpl implements HeadlessSession, WorldObserver {
+
+    private static final Duration TICK = Duration.ofSeconds(1).dividedBy(FixedTimestepLoop.DEFAULT_TICK_RATE);
+
+    private final World world;
+    private final InputSource input;
+    private final WorldTick worldTick;
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong events = new AtomicLong();
+    private volatile FixedTimestepLoop loop;
+
+    /**
+     * Constructs a session that ignores the enigmas the player interacts with.
+     *
+     * @param world the world to run
+     * @param input where to read the inputs from
+     */
+    public HeadlessSessionImpl(final World world, final InputSource input) {
+        this(world, input, enigma -> { });
+    }
+
+    /**
+     * Constructs a session.
+     *
+     * @param world the world to run, it is observed by the session from now on
+     * @param input where to read the inputs from
+     * @param enigmas receives the enigmas the player interacts with, on the thread of the tick
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The session runs the given world on purpose")
+    public HeadlessSessionImpl(final World world, final InputSource input, final Consumer<Enigma> enigmas) {
+        this.world = Objects.requireNonNull(world);
+        this.input = Objects.requireNonNull(input);
+        Objects.requireNonNull(enigmas);
+        this.worldTick = new WorldTick(world, pressed -> {
+            if (pressed == UserInput.INTERACT) {
+                world.letPlayerInteract().ifPresent(enigmas);
+            }
+        });
+        this.world.setObserver(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The world is returned to the caller")
+    public World getWorld() {
+        return this.world;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void tick() {
+        worldTick.run(input.poll(ticks.get()), TICK);
+        ticks.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void run(final long count) {
+        for (long i = 0; i < count && !world.hasWon(); i++) {
+            tick();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTicks() {
+        return this.ticks.get();
+    }
+
+    /**
+     * Returns the number of events published by the world so far.
+     *
+     * @return the number of events
+     */
+    public long getEvents() {
+        return this.events.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void start(final int tickRate) {
+        if (loop != null && loop.isRunning()) {
+            throw new IllegalStateException("The session is already running");
+        }
+        final FixedTimestepLoop current = new FixedTimestepLoop(tickRate, 1, this::tick, alpha -> { });
+        this.loop = current;
+        ManagedExecutorImpl.getInstance().execute(current);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        final FixedTimestepLoop current = this.loop;
+        if (current != null) {
+            current.stop();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onWorldEvents(final List<WorldEvent> published) {
+        this.events.addAndGet(published.size());
+        if (published.stream().anyMatch(event -> event instanceof WorldEvent.GameWon)) {
+            stop();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Nothing is drawn, so the frames are dropped.
+     */
+    @Override
+    public void onFrame(final FrameState state) {
+        // no view to hand the frame to
+    }
+}
@@ -0,0 +1,46 @@
+package mindescape.controller.headless.impl;
+
+import java.util.Random;
+
+import mindescape.controller.core.api.UserInput;
+import mindescape.controller.headless.api.InputSource;
+
+/**
+ * An {@link InputSource} that walks the player around at random and interacts now and then,
+ * the same seed always giving the same inputs, so that a soak test can be repeated.
+ */
+public final class RandomWalkInput implements InputSource {
+
+    private static final UserInput[] DIRECTIONS = {UserInput.UP, UserInput.DOWN, UserInput.LEFT, UserInput.RIGHT};
+
+    private final Random random;
+    private final int stride;
+    private int current;
+
+    /**
+     * Constructs the source.
+     *
+     * @param seed the seed of the walk
+     * @param stride the number of ticks a direction is held before picking another one
+     * @throws IllegalArgumentException if the stride is not positive
+     */
+    public RandomWalkInput(final long seed, final int stride) {
+        if (stride <= 0) {
+            throw new IllegalArgumentException("Stride must be positive");
+        }
+        this.random = new Random(seed);
+        this.stride = stride;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int poll(final long tick) {
+        if (tick % stride == 0) {
+            final int choice = random.nextInt(DIRECTIONS.length + 1);
+            current = (choice < DIRECTIONS.length ? DIRECTIONS[choice] : UserInput.INTERACT).getMask();
+        }
+        return current;
+    }
+}
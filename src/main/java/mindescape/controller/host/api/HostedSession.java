@@ -0,0 +1,40 @@
+package mindescape.controller.host.api;
+
+import mindescape.controller.core.api.UserInput;
+
+/**
+ * The handle of a client on a session run by a {@link SessionHost}.
+ * <p>
+ * Inputs and states are exchanged in memory: the client sets the inputs it holds whenever they
+ * change, and reads the last state whenever it needs it, from any thread, without ever waiting
+ * for the tick.
+ * </p>
+ */
+public interface HostedSession {
+
+    /**
+     * Returns the identifier of the session, unique within its host.
+     *
+     * @return the identifier
+     */
+    long getId();
+
+    /**
+     * Sets the inputs held from the next tick on, until they are set again.
+     *
+     * @param held the mask of the inputs held, as built by {@link UserInput#getMask()}, 0 to release them all
+     */
+    void setInput(int held);
+
+    /**
+     * Returns the state published at the end of the last tick.
+     *
+     * @return the last state
+     */
+    SessionState getState();
+
+    /**
+     * Removes the session from its host, the tick in progress is completed.
+     */
+    void close();
+}
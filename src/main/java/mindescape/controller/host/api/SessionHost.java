@@ -0,0 +1,35 @@
+package mindescape.controller.host.api;
+
+import mindescape.model.world.api.World;
+
+/**
+ * Runs many independent worlds in the same process, without any view.
+ * <p>
+ * The sessions are spread over a few tick loops, each one advancing all of its sessions one after
+ * the other on a single thread, instead of a thread per world. Every session keeps its own world,
+ * inputs and state, nothing is shared between sessions.
+ * </p>
+ */
+public interface SessionHost {
+
+    /**
+     * Starts hosting a world, it is ticked from the next tick of its loop.
+     *
+     * @param world the world to host, it must not be used elsewhere from now on
+     * @return the handle of the session
+     * @throws IllegalStateException if the host has been shut down
+     */
+    HostedSession open(World world);
+
+    /**
+     * Returns the number of sessions hosted.
+     *
+     * @return the number of sessions
+     */
+    int getSessionCount();
+
+    /**
+     * Stops all the loops, the ticks in progress are completed.
+     */
+    void shutdown();
+}
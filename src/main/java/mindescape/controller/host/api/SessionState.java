@@ -0,0 +1,29 @@
+package mindescape.controller.host.api;
+
+import java.util.Optional;
+
+import mindescape.model.world.core.api.Point2D;
+
+/**
+ * What a client of a hosted session sees of its world, published at the end of every tick.
+ *
+ * @param tick the number of ticks run by the session
+ * @param roomName the name of the room the player is in
+ * @param position the position of the player
+ * @param itemCount the number of items in the inventory
+ * @param won whether the game has been won, the session is not ticked anymore
+ * @param failure the error that stopped the session, if any, the session is then closed
+ */
+public record SessionState(long tick, String roomName, Point2D position, int itemCount, boolean won,
+        Optional<String> failure) {
+
+    /**
+     * Returns the same state, marked with the error that stopped the session.
+     *
+     * @param error the error thrown while ticking the session
+     * @return the state of the failed session
+     */
+    public SessionState failed(final RuntimeException error) {
+        return new SessionState(tick, roomName, position, itemCount, won, Optional.of(error.toString()));
+    }
+}
@@ -0,0 +1,190 @@
+package mindescape.controller.host.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mindescape.controller.core.impl.FixedTimestepLoop;
+import mindescape.controller.headless.impl.HeadlessSessionImpl;
+import mindescape.controller.host.api.HostedSession;
+import mindescape.controller.host.api.SessionHost;
+import mindescape.controller.host.api.SessionState;
+import mindescape.model.executor.impl.ManagedExecutorImpl;
+import mindescape.model.world.api.World;
+import mindescape.model.world.player.api.Player;
+
+/**
+ * Implementation of the {@link SessionHost} interface.
+ * <p>
+ * Each loop is a {@link FixedTimestepLoop} run by the executor of the game, whose tick advances every
+ * session assigned to it with a {@link HeadlessSessionImpl}. Sessions are assigned to the loops in
+ * turn. Opening and closing a session are queued and applied by the loop at the start of its next
+ * tick, so the list of sessions of a loop is only ever touched by its thread.
+ * </p>
+ * <p>
+ * The inputs of a session are read once per tick from a volatile field, and its state is published
+ * in another one, so clients and loops never block each other.
+ * </p>
+ * <p>
+ * A session that throws while ticking is closed and its last state reports the error, the other
+ * sessions of its loop go on.
+ * </p>
+ */
+public final class SessionHostImpl implements SessionHost {
+
+    private final List<Worker> workers = new ArrayList<>();
+    private final AtomicLong ids = new AtomicLong();
+    private final AtomicInteger sessions = new AtomicInteger();
+    private volatile boolean shutdown;
+
+    /**
+     * Constructs a host with one loop per processor, ticking at the default rate.
+     */
+    public SessionHostImpl() {
+        this(Runtime.getRuntime().availableProcessors(), FixedTimestepLoop.DEFAULT_TICK_RATE);
+    }
+
+    /**
+     * Constructs a host and starts its loops.
+     *
+     * @param loops the number of loops, that is of threads
+     * @param tickRate the number of ticks per second of every session
+     * @throws IllegalArgumentException if the number of loops or the tick rate is not positive
+     */
+    public SessionHostImpl(final int loops, final int tickRate) {
+        if (loops <= 0) {
+            throw new IllegalArgumentException("The number of loops must be positive");
+        }
+        for (int i = 0; i < loops; i++) {
+            final Worker worker = new Worker(tickRate);
+            workers.add(worker);
+            ManagedExecutorImpl.getInstance().execute(worker.loop);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HostedSession open(final World world) {
+        Objects.requireNonNull(world);
+        if (shutdown) {
+            throw new IllegalStateException("The host has been shut down");
+        }
+        final long id = ids.getAndIncrement();
+        final Worker worker = workers.get((int) (id % workers.size()));
+        final Session session = new Session(id, world, worker);
+        sessions.incrementAndGet();
+        worker.pending.add(() -> worker.sessions.add(session));
+        return session;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSessionCount() {
+        return sessions.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        shutdown = true;
+        workers.forEach(worker -> worker.loop.stop());
+    }
+
+    /*
+     * A loop and the sessions it advances.
+     */
+    private static final class Worker {
+
+        private final List<Session> sessions = new ArrayList<>();
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private final FixedTimestepLoop loop;
+
+        Worker(final int tickRate) {
+            this.loop = new FixedTimestepLoop(tickRate, 1, this::tick, alpha -> { });
+        }
+
+        private void tick() {
+            Runnable change = pending.poll();
+            while (change != null) {
+                change.run();
+                change = pending.poll();
+            }
+            for (final Session session : sessions) {
+                session.tick();
+            }
+        }
+    }
+
+    /*
+     * A session, its inputs and its last state.
+     */
+    private final class Session implements HostedSession {
+
+        private final long id;
+        private final Worker worker;
+        private final HeadlessSessionImpl runner;
+        private volatile int input;
+        private volatile SessionState state;
+        private boolean closed;
+
+        Session(final long id, final World world, final Worker worker) {
+            this.id = id;
+            this.worker = worker;
+            this.runner = new HeadlessSessionImpl(world, tick -> this.input);
+            this.state = stateOf(world, 0);
+        }
+
+        @Override
+        public long getId() {
+            return this.id;
+        }
+
+        @Override
+        public void setInput(final int held) {
+            this.input = held;
+        }
+
+        @Override
+        public SessionState getState() {
+            return this.state;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                sessions.decrementAndGet();
+                worker.pending.add(() -> worker.sessions.remove(this));
+            }
+        }
+
+        private void tick() {
+            if (!state.won() && state.failure().isEmpty()) {
+                try {
+                    runner.tick();
+                    state = stateOf(runner.getWorld(), runner.getTicks());
+                } catch (final RuntimeException e) {
+                    state = state.failed(e);
+                    close();
+                }
+            }
+        }
+
+        private static SessionState stateOf(final World world, final long tick) {
+            final Player player = world.getPlayer();
+            return new SessionState(tick, player.getCurrentRoom().getName(), player.getPosition(),
+                player.getInventory().getItems().size(), world.hasWon(), Optional.empty());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import java.util.Optional;
 import mindescape.controller.core.api.Controller;
 import mindescape.controller.core.api.ControllerName;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.saveload.api.SaveService;
 import mindescape.model.world.api.World;
 
 
@@ -46,10 +47,30 @@ public interface MainController {
     void exit();
 
     /**
-     * Save the game.
+     * Save the game in the background and exit once it has been saved.
+     * The state of the world is copied between two ticks, then written without blocking the caller,
+     * the progress and the outcome are shown by the main view.
+     *
+     * @throws IllegalStateException if there is no world to save
      */
     void save();
 
+    /**
+     * Returns the service that writes the saves, shared by the manual saves and the autosaves
+     * so that they are written one at a time.
+     *
+     * @return the save service
+     */
+    SaveService getSaveService();
+
+    /**
+     * Tells whether the running game is saved automatically, in which case exiting without
+     * saving keeps what has been autosaved.
+     *
+     * @return true if the autosave is enabled
+     */
+    boolean isAutosaving();
+
     /**
      * Load the game.
      * 
@@ -1,8 +1,12 @@
 package mindescape.controller.maincontroller.impl;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Objects;
 import java.util.Optional;
 import javax.swing.SwingUtilities;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.controller.core.api.Controller;
 import mindescape.controller.core.api.ControllerFactory;
 import mindescape.controller.core.api.ControllerMap;
@@ -12,7 +16,12 @@ import mindescape.controller.core.impl.ControllerFactoryImpl;
 import mindescape.controller.core.impl.ControllerMapImpl;
 import mindescape.controller.maincontroller.api.MainController;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.impl.AutosaveImpl;
+import mindescape.model.saveload.impl.SaveServiceImpl;
+import mindescape.model.saveload.util.SaveJournal;
 import mindescape.model.saveload.util.SaveManager;
+import mindescape.model.saveload.util.SaveSnapshot;
 import mindescape.model.world.api.World;
 import mindescape.view.main.api.MainView;
 import mindescape.view.main.impl.MainViewImpl;
@@ -26,6 +35,7 @@ public final class MainControllerImpl implements MainController {
     private final ControllerMap controllerMap;
     private final MainView mainView;
     private final ControllerFactory controllerFactory;
+    private final SaveService saveService = new SaveServiceImpl();
     private String playerName;
 
     /**
@@ -88,6 +98,7 @@ public final class MainControllerImpl implements MainController {
      */
     @Override
     public void exit() {
+        this.saveService.shutdown();
         this.controllerMap.clear();
         this.mainView.close();
         System.exit(0);
@@ -98,16 +109,43 @@ public final class MainControllerImpl implements MainController {
      */
     @Override
     public void save() {
-        final var world = this.controllerMap.findController(ControllerName.WORLD).getModel();
+        final Controller worldController = this.controllerMap.findController(ControllerName.WORLD);
+        final var world = worldController.getModel();
         Objects.requireNonNull(world, "World is null.");
-        if (world instanceof World) {
-            SaveManager.saveGameStatus((World) world);
-            this.exit();
+        if (world instanceof World && worldController instanceof LoopController) {
+            ((LoopController) worldController).runOnLoop(() -> checkpoint((World) world))
+                .thenCompose(snapshot -> this.saveService.save(snapshot,
+                    progress -> SwingUtilities.invokeLater(() -> this.mainView.showSaveProgress(progress)))
+                    .thenApply(file -> compacted(file, snapshot)))
+                .whenComplete((file, error) -> SwingUtilities.invokeLater(() -> {
+                    if (error == null) {
+                        this.exit();
+                    } else {
+                        this.mainView.saveFailed();
+                    }
+                }));
         } else {
             throw new IllegalStateException("The current controller is not a World controller.");
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The save service is shared on purpose")
+    public SaveService getSaveService() {
+        return this.saveService;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAutosaving() {
+        return AutosaveImpl.isEnabled();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -151,6 +189,29 @@ public final class MainControllerImpl implements MainController {
         };
     }
 
+    /*
+     * Takes the snapshot on the loop thread, the journal of the world moves to a new generation.
+     */
+    private static SaveSnapshot checkpoint(final World world) {
+        try {
+            return SaveJournal.checkpoint(world, SaveManager.getSaveFolder());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Error reading the journal", e);
+        }
+    }
+
+    /*
+     * Deletes the journals the written save includes, those left behind are skipped when loading anyway.
+     */
+    private static File compacted(final File file, final SaveSnapshot snapshot) {
+        try {
+            SaveJournal.compacted(file.getAbsoluteFile().getParentFile(), snapshot);
+        } catch (final IOException e) {
+            // the save has been written, the journals older than it are never replayed
+        }
+        return file;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -15,6 +15,7 @@ import mindescape.model.api.Model;
 import mindescape.model.saveload.api.Saves;
 import mindescape.model.saveload.impl.SavesImpl;
 import mindescape.model.saveload.util.SaveManager;
+import mindescape.model.saveload.util.SaveMetadata;
 import mindescape.view.saveload.SavesView;
 
 /**
@@ -28,6 +29,7 @@ public final class SavesControllerImpl implements SavesController {
     private final SavesView view;
     private final MainController mainController;
     private final String name = ControllerName.LOAD.getName();
+    private List<SaveMetadata> slots = List.of();
 
     /**
      * Controller class responsible for handling save and load operations.
@@ -62,10 +64,8 @@ public final class SavesControllerImpl implements SavesController {
      */
     @Override
     public void loadSaveFile(final int index) {
-        final List<File> saveFiles = model.getSortedSaveFiles();
-
-        if (index >= 0 && index < saveFiles.size()) {
-            this.load(saveFiles.get(index));
+        if (index >= 0 && index < slots.size()) {
+            this.load(model.getSaveFile(slots.get(index)));
         }
     }
 
@@ -90,7 +90,8 @@ public final class SavesControllerImpl implements SavesController {
      */
     @Override
     public void updateView() {
-        this.view.updateSaveFiles(model.getSortedSaveFiles());
+        this.slots = model.getSaveSlots();
+        this.view.updateSaveSlots(slots);
     }
 
     /**
@@ -144,10 +145,11 @@ public final class SavesControllerImpl implements SavesController {
      * Loads the save files from the model and updates the view.
      */
     private void loadSaveFile() {
-        final var saveFiles = model.getSortedSaveFiles();
+        final var saveSlots = model.getSaveSlots();
 
-        if (!saveFiles.isEmpty()) {
-            view.updateSaveFiles(saveFiles);
+        if (!saveSlots.isEmpty()) {
+            this.slots = saveSlots;
+            view.updateSaveSlots(saveSlots);
         }
     }
 }
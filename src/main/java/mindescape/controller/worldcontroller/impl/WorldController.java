@@ -1,20 +1,36 @@
 package mindescape.controller.worldcontroller.impl;
 
-import java.util.Map;
-import java.util.logging.Logger;
+import java.time.Duration;
+import java.util.List;
 import javax.swing.JPanel;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.controller.core.api.ControllerName;
-import mindescape.controller.core.api.KeyMapper;
 import mindescape.controller.core.api.LoopController;
 import mindescape.controller.core.api.UserInput;
+import mindescape.controller.core.impl.FixedTimestepLoop;
+import mindescape.controller.core.impl.WorldTick;
 import mindescape.controller.maincontroller.api.MainController;
 import mindescape.model.api.Model;
+import mindescape.model.executor.impl.ManagedExecutorImpl;
+import mindescape.model.saveload.api.Autosave;
+import mindescape.model.saveload.impl.AutosaveImpl;
+import mindescape.model.saveload.util.SaveManager;
 import mindescape.model.world.api.World;
-import mindescape.model.world.core.api.Movement;
+import mindescape.model.world.core.api.FrameState;
+import mindescape.model.world.core.api.RoomChange;
 import mindescape.model.world.core.api.WorldObserver;
-import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.events.api.WorldEvent;
 import mindescape.view.api.WorldView;
 import mindescape.view.world.WorldViewImpl;
 
@@ -23,14 +39,20 @@ import mindescape.view.world.WorldViewImpl;
  */
 public final class WorldController implements LoopController, WorldObserver {
 
+    private static final long JOIN_TIMEOUT_MILLIS = 1_000;
+
+    private final Logger logger = Logger.getLogger(WorldController.class.getName());
     private final World world;
     private final WorldView worldView;
     private final MainController mainController;
-    private final Logger logger = Logger.getLogger(WorldController.class.getName());
-    private volatile boolean running = true;
-    private static final int FPS = 60; 
-    private static final long TIME = 1_000; // 1 second in milliseconds
-    private final Map<Integer, UserInput> keyMapper = KeyMapper.getKeyMap();
+    private final WorldTick worldTick;
+    private volatile FixedTimestepLoop loop;
+    private volatile Future<?> loopTask;
+    private volatile Thread loopThread;
+    private volatile FrameState frame;
+    private final Queue<Runnable> loopTasks = new ConcurrentLinkedQueue<>();
+    private Autosave autosave;
+    private Duration tickDuration = Duration.ZERO;
 
     /**
      * Constructs a new WorldController with the specified world and the reference to the main controller.
@@ -41,9 +63,16 @@ public final class WorldController implements LoopController, WorldObserver {
     @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The main controller needs to be exposed to the caller")
     public WorldController(final World world, final MainController mainController) {
         this.world = world;
-        this.worldView = new WorldViewImpl(world.getCurrentRoom());
+        this.worldView = new WorldViewImpl(world.getFrameState());
         this.world.setObserver(this);
         this.mainController = mainController;
+        this.worldTick = new WorldTick(world, input -> {
+            if (input == UserInput.INTERACT) {
+                interactAction();
+            } else {
+                inventoryAction();
+            }
+        });
     }
 
     /**
@@ -51,57 +80,45 @@ public final class WorldController implements LoopController, WorldObserver {
      */
     @Override
     public void handleInput(final Object input) {
-        switch ((UserInput) input) {
-            case UP -> this.world.movePlayer(Movement.UP);
-            case DOWN -> this.world.movePlayer(Movement.DOWN);
-            case LEFT -> this.world.movePlayer(Movement.LEFT);
-            case RIGHT -> this.world.movePlayer(Movement.RIGHT);
-            case INTERACT -> interactAction();
-            case INVENTORY ->  inventoryAction();
-            default -> throw new IllegalArgumentException("Unknown input: " + input);
-        }
+        this.worldTick.apply((UserInput) input);
     }
 
     /**
      * {@inheritDoc}
+     * The loop is stopped and then joined, unless this is called by the loop itself.
      */
     @Override
     public void quit() {
-        this.running = false;
+        final FixedTimestepLoop current = this.loop;
+        if (current != null) {
+            current.stop();
+        }
+        final Future<?> task = this.loopTask;
+        if (task != null && Thread.currentThread() != this.loopThread) {
+            try {
+                task.get(JOIN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (final ExecutionException | TimeoutException e) {
+                // the loop is stopped anyway, it has only been slower to end or it has failed
+            }
+        }
     }
 
     /*
-     * The loop that runs the game.
+     * Advances the game by one fixed timestep.
      */
-    private final class Loop extends Thread {
-        /**
-         * {@inheritDoc}
-         */
-        @Override
-        public void run() {
-            final long frameTime = TIME / FPS;
-
-            while (running) {
-                final long startTime = System.currentTimeMillis();
-
-                if (world.hasWon()) {
-                    mainController.winning();
-                    quit();
-                }
-
-                final long elapsedTime = System.currentTimeMillis() - startTime;
-                if (elapsedTime < frameTime) {
-                    try {
-                        sleep(frameTime - elapsedTime);
-                    } catch (InterruptedException e) {
-                        logger.fine(e.getMessage());
-                    }
-                }
-
-                movePlayerIfKeyPressed();
-                worldView.draw(world.getCurrentRoom());
-            }
-        }
+    private void tick() {
+        runLoopTasks();
+        worldTick.run(worldView.pollInput(), tickDuration);
+        autosave.onTick();
+    }
+
+    /*
+     * Draws the last snapshot published by the world, the player between its last two positions.
+     */
+    private void render(final double alpha) {
+        worldView.draw(frame, alpha);
     }
 
     /**
@@ -141,19 +158,54 @@ public final class WorldController implements LoopController, WorldObserver {
      */
     @Override
     public void start() {
-        this.running = true;
-        new Loop().start();
-    }
-
-    private void movePlayerIfKeyPressed() {
-        for (final Map.Entry<Integer, Boolean> entry : worldView.getKeyState().entrySet()) {
-            if (entry.getValue()) {
-                handleInput(keyMapper.get(entry.getKey()));
-                if (keyMapper.get(entry.getKey()) == UserInput.INTERACT
-                || keyMapper.get(entry.getKey()) == UserInput.INVENTORY) {
-                    break;
-                }
+        this.frame = world.getFrameState();
+        if (this.autosave == null) {
+            this.autosave = new AutosaveImpl(world, mainController.getSaveService(), SaveManager.getSaveFolder());
+        }
+        final FixedTimestepLoop current = new FixedTimestepLoop(this::tick, this::render);
+        this.tickDuration = Duration.ofNanos(current.getTickNanos());
+        this.loop = current;
+        this.loopTask = ManagedExecutorImpl.getInstance().submit(() -> {
+            this.loopThread = Thread.currentThread();
+            try {
+                current.run();
+            } catch (final RuntimeException | Error e) {
+                // the future of the loop is only read when quitting, so the failure is reported here
+                logger.log(Level.SEVERE, "The game loop has stopped", e);
+                throw e;
+            } finally {
+                runLoopTasks();
             }
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     * A task submitted while the loop is stopping, or after a tick has failed, is run either by
+     * the loop thread, after its last tick, or by the calling thread, never by both.
+     */
+    @Override
+    public <T> CompletableFuture<T> runOnLoop(final Supplier<T> task) {
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        loopTasks.add(() -> {
+            try {
+                result.complete(task.get());
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        final FixedTimestepLoop current = this.loop;
+        if (current == null || !current.isRunning()) {
+            runLoopTasks();
+        }
+        return result;
+    }
+
+    private void runLoopTasks() {
+        Runnable task = loopTasks.poll();
+        while (task != null) {
+            task.run();
+            task = loopTasks.poll();
         }
     }
 
@@ -169,7 +221,21 @@ public final class WorldController implements LoopController, WorldObserver {
     }
 
     @Override
-    public void onRoomChanged(final Room newRoom) {
-        worldView.updateRoomImage(newRoom);
+    public void onWorldEvents(final List<WorldEvent> events) {
+        autosave.onWorldEvents(events);
+        if (events.stream().anyMatch(event -> event instanceof WorldEvent.GameWon)) {
+            quit();
+            mainController.winning();
+            return;
+        }
+        RoomChange.fromEvents(world.getCurrentRoom(), events).ifPresent(worldView::updateRoom);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onFrame(final FrameState state) {
+        this.frame = state;
     }
 }
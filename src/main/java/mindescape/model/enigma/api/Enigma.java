@@ -30,4 +30,11 @@ public interface Enigma {
      * @return a string representing the enigma's name
      */
     String getName();
+
+    /**
+     * Brings the enigma back to a saved state, used when a saved game is loaded.
+     *
+     * @param solved whether the enigma has to be solved
+     */
+    void restore(boolean solved);
 }
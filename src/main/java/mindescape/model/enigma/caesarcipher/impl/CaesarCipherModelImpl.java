@@ -84,4 +84,12 @@ public final class CaesarCipherModelImpl implements CaesarCipherModel, Serializa
     public String getEncryptedText() {
         return ENCRYPTED_TEXT; 
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(final boolean solved) {
+        this.solved = solved;
+    }
 }
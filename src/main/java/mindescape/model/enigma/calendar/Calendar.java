@@ -35,4 +35,12 @@ public final class Calendar implements Enigma, Serializable, Model {
     public String getName() {
        return EnigmaType.CALENDAR.getName();
     }
+
+    /**
+     * {@inheritDoc}
+     * The calendar is never solved, so there is nothing to restore.
+     */
+    @Override
+    public void restore(final boolean solved) {
+    }
 }
@@ -58,4 +58,12 @@ public final class EnigmaPasswordModelImpl implements EnigmaPasswordModel, Seria
     public String getName() {
         return this.name;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(final boolean solved) {
+        this.solved = solved;
+    }
 }
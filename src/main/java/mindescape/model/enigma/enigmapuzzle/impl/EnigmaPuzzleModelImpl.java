@@ -165,4 +165,23 @@ public final class EnigmaPuzzleModelImpl implements EnigmaPuzzleModel, Serializa
             return true;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     * A solved puzzle gets its pieces back in order, an unsolved one is shuffled,
+     * the pieces are shuffled anyway every time the puzzle is shown.
+     */
+    @Override
+    public void restore(final boolean solved) {
+        this.clickedButtonIndex = null;
+        if (solved) {
+            for (int i = 0; i < rows * cols; i++) {
+                pieces[i / cols][i % cols] = i;
+            }
+        } else {
+            while (rows * cols > 1 && isSolved()) {
+                shufflePieces();
+            }
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package mindescape.model.executor.api;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+/**
+ * The executor every background task of the game runs on: the game loops, the saves and the
+ * loading of the resources, so that no part of the game creates threads of its own.
+ * <p>
+ * It runs the tasks either on virtual threads, so that thousands of sessions cost no platform
+ * thread each, or on a pool of platform threads that are reused once their task ends.
+ * It also counts the threads it uses.
+ * </p>
+ */
+public interface ManagedExecutor extends Executor {
+
+    /**
+     * Starts a task.
+     *
+     * @param task the task to run
+     * @return a future completed when the task ends, that can be waited on to join the task
+     */
+    Future<?> submit(Runnable task);
+
+    /**
+     * Tells whether the tasks run on virtual threads.
+     *
+     * @return true if the tasks run on virtual threads, false if on pooled platform threads
+     */
+    boolean isVirtual();
+
+    /**
+     * Returns the number of tasks running now, that is of threads in use.
+     *
+     * @return the number of running tasks
+     */
+    int getActiveThreads();
+
+    /**
+     * Returns the highest number of tasks that have been running at the same time.
+     *
+     * @return the peak of running tasks
+     */
+    int getPeakThreads();
+
+    /**
+     * Returns the number of platform threads created so far, 0 if the tasks run on virtual threads.
+     *
+     * @return the number of platform threads created
+     */
+    int getCreatedPlatformThreads();
+
+    /**
+     * Returns the number of tasks started so far.
+     *
+     * @return the number of tasks started
+     */
+    long getStartedTasks();
+
+    /**
+     * Stops accepting tasks and waits for the running ones to end.
+     *
+     * @param timeout how long to wait at most
+     * @return true if all the tasks ended in time
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    boolean shutdown(Duration timeout) throws InterruptedException;
+}
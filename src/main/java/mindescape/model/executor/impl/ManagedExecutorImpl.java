@@ -0,0 +1,139 @@
+package mindescape.model.executor.impl;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import mindescape.model.executor.api.ManagedExecutor;
+
+/**
+ * Implementation of the {@link ManagedExecutor} interface.
+ * <p>
+ * Virtual threads are used when the {@value #PROPERTY} system property is {@code virtual}, platform
+ * threads otherwise. Platform threads are daemon threads of a cached pool, so entering the world
+ * screen again reuses the thread of the previous loop instead of creating one.
+ * </p>
+ */
+public final class ManagedExecutorImpl implements ManagedExecutor {
+
+    /**
+     * The system property choosing the kind of threads, {@code virtual} or {@code platform}.
+     */
+    public static final String PROPERTY = "mindescape.threads";
+
+    private static final ManagedExecutorImpl INSTANCE =
+        new ManagedExecutorImpl("virtual".equalsIgnoreCase(System.getProperty(PROPERTY, "platform")));
+
+    private final ExecutorService executor;
+    private final boolean virtual;
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final AtomicInteger platformThreads = new AtomicInteger();
+    private final AtomicLong started = new AtomicLong();
+
+    /**
+     * Constructs an executor.
+     *
+     * @param virtual whether to run the tasks on virtual threads instead of pooled platform threads
+     */
+    public ManagedExecutorImpl(final boolean virtual) {
+        this.virtual = virtual;
+        this.executor = virtual
+            ? Executors.newVirtualThreadPerTaskExecutor()
+            : Executors.newCachedThreadPool(task -> {
+                final Thread thread = new Thread(task, "mindescape-worker-" + platformThreads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Returns the executor shared by the whole game, configured by the {@value #PROPERTY} system property.
+     *
+     * @return the shared executor
+     */
+    public static ManagedExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(final Runnable task) {
+        executor.execute(track(task));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> submit(final Runnable task) {
+        return executor.submit(track(task));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isVirtual() {
+        return this.virtual;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActiveThreads() {
+        return active.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPeakThreads() {
+        return peak.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCreatedPlatformThreads() {
+        return platformThreads.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getStartedTasks() {
+        return started.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean shutdown(final Duration timeout) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private Runnable track(final Runnable task) {
+        started.incrementAndGet();
+        return () -> {
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package mindescape.model.inventory.api;
 
+import java.util.Optional;
 import java.util.Set;
 import mindescape.model.api.Model;
 import mindescape.model.world.items.interactable.api.Pickable;
@@ -28,4 +29,24 @@ public interface Inventory extends Model {
      * @return true if the item was removed, false otherwise.
      */
     boolean removeItem(Pickable pickable);
+
+    /**
+     * Tells whether the inventory holds an item with the given id, without going through the items.
+     * @param id the id of the item.
+     * @return true if at least one item has that id, false otherwise.
+     */
+    boolean containsId(int id);
+
+    /**
+     * Finds an item with the given id, without going through the items.
+     * @param id the id of the item.
+     * @return an optional with one of the items with that id, empty if there is none.
+     */
+    Optional<Pickable> findById(int id);
+
+    /**
+     * Sets the observer notified when the content of the inventory changes.
+     * @param observer the observer to be set.
+     */
+    void setObserver(InventoryObserver observer);
 }
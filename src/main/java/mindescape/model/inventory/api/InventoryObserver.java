@@ -0,0 +1,14 @@
+package mindescape.model.inventory.api;
+
+/**
+ * The {@code InventoryObserver} interface provides the method to observe an inventory.
+ */
+@FunctionalInterface
+public interface InventoryObserver {
+
+    /**
+     * Called when an item has been added to or removed from the inventory.
+     * @param inventory the inventory after the change.
+     */
+    void onInventoryChanged(Inventory inventory);
+}
@@ -1,12 +1,17 @@
 package mindescape.model.inventory.impl;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.model.inventory.api.Inventory;
+import mindescape.model.inventory.api.InventoryObserver;
 import mindescape.model.world.items.interactable.api.Pickable;
 /**
  * Implementation of the {@link Inventory} interface.
@@ -21,6 +26,9 @@ public final class InventoryImpl implements Inventory, Serializable {
 
     private static final long serialVersionUID = 1L;
     private final Set<Pickable> set = new HashSet<>();
+    private transient PickableIdIndex ids = new PickableIdIndex();
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The world sets it again after loading")
+    private transient InventoryObserver observer;
 
     /**
      * Returns the set of {@link Pickable} items in the inventory.
@@ -41,7 +49,10 @@ public final class InventoryImpl implements Inventory, Serializable {
     @Override
     public void addItems(final Pickable pickable) {
         Objects.requireNonNull(pickable, "Pickable item cannot be null");
-        set.add(pickable);
+        if (set.add(pickable)) {
+            ids.add(pickable);
+            notifyObserver();
+        }
     }
 
     /**
@@ -56,8 +67,48 @@ public final class InventoryImpl implements Inventory, Serializable {
         Objects.requireNonNull(pickable, "Pickable item cannot be null");
         if (set.contains(pickable)) {
             set.remove(pickable);
+            ids.remove(pickable, set);
+            notifyObserver();
             return true;
         }
         return false;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsId(final int id) {
+        return ids.contains(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pickable> findById(final int id) {
+        return Optional.ofNullable(ids.get(id));
+    }
+
+    /**
+     * Sets the observer notified when an item is added or removed.
+     * 
+     * @param observer The observer to be set.
+     */
+    @Override
+    public void setObserver(final InventoryObserver observer) {
+        this.observer = observer;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        ids = new PickableIdIndex();
+        set.forEach(ids::add);
+    }
+
+    private void notifyObserver() {
+        if (observer != null) {
+            observer.onInventoryChanged(this);
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package mindescape.model.inventory.impl;
+
+import java.util.Collection;
+
+import mindescape.model.world.items.interactable.api.Pickable;
+
+/**
+ * An open-addressed hash table from the ids of the items of an inventory to how many items
+ * have that id and to one of them.
+ * <p>
+ * The ids are kept as primitive {@code int}s with linear probing, so looking an id up never
+ * boxes it nor allocates. Removals shift the following entries back instead of leaving
+ * tombstones, hence the table never needs to be cleaned up.
+ * </p>
+ */
+final class PickableIdIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+    private static final int HALF_WORD = 16;
+
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private Pickable[] items = new Pickable[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Records an item.
+     * @param pickable the item added to the inventory.
+     */
+    void add(final Pickable pickable) {
+        if ((size + 1) * 4 > keys.length * 3) {
+            resize(keys.length * 2);
+        }
+        final int slot = find(pickable.getId());
+        if (counts[slot] == 0) {
+            keys[slot] = pickable.getId();
+            items[slot] = pickable;
+            size++;
+        }
+        counts[slot]++;
+    }
+
+    /**
+     * Forgets an item.
+     * @param pickable the item removed from the inventory.
+     * @param remaining the items still in the inventory, looked at only when the removed item
+     *     was the one returned for its id and another item has the same id.
+     */
+    void remove(final Pickable pickable, final Collection<Pickable> remaining) {
+        final int slot = find(pickable.getId());
+        if (counts[slot] == 0) {
+            return;
+        }
+        counts[slot]--;
+        if (counts[slot] == 0) {
+            delete(slot);
+        } else if (items[slot] == pickable) {
+            items[slot] = remaining.stream()
+                .filter(item -> item.getId() == pickable.getId())
+                .findAny()
+                .orElse(null);
+        }
+    }
+
+    /**
+     * Tells whether an item with the given id has been recorded.
+     * @param id the id to look for.
+     * @return true if at least one item has that id.
+     */
+    boolean contains(final int id) {
+        return counts[find(id)] != 0;
+    }
+
+    /**
+     * Returns an item with the given id.
+     * @param id the id to look for.
+     * @return one of the items with that id, or null if there is none.
+     */
+    Pickable get(final int id) {
+        return items[find(id)];
+    }
+
+    private int find(final int id) {
+        final int mask = keys.length - 1;
+        int slot = hash(id) & mask;
+        while (counts[slot] != 0 && keys[slot] != id) {
+            slot = slot + 1 & mask;
+        }
+        return slot;
+    }
+
+    private void delete(final int slot) {
+        final int mask = keys.length - 1;
+        int gap = slot;
+        int next = gap + 1 & mask;
+        while (counts[next] != 0) {
+            final int ideal = hash(keys[next]) & mask;
+            if ((next - ideal & mask) >= (next - gap & mask)) {
+                keys[gap] = keys[next];
+                counts[gap] = counts[next];
+                items[gap] = items[next];
+                gap = next;
+            }
+            next = next + 1 & mask;
+        }
+        counts[gap] = 0;
+        items[gap] = null;
+        size--;
+    }
+
+    private void resize(final int capacity) {
+        final int[] oldKeys = keys;
+        final int[] oldCounts = counts;
+        final Pickable[] oldItems = items;
+        keys = new int[capacity];
+        counts = new int[capacity];
+        items = new Pickable[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldCounts[i] != 0) {
+                final int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                counts[slot] = oldCounts[i];
+                items[slot] = oldItems[i];
+            }
+        }
+    }
+
+    private static int hash(final int id) {
+        final int h = id * HASH_MULTIPLIER;
+        return h ^ h >>> HALF_WORD;
+    }
+}
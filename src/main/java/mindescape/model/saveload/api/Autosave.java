@@ -0,0 +1,31 @@
+package mindescape.model.saveload.api;
+
+import java.util.List;
+
+import mindescape.model.world.events.api.WorldEvent;
+
+/**
+ * Keeps the save of a running world up to date without the player asking for it.
+ * <p>
+ * All its methods are called on the thread that runs the world.
+ * </p>
+ */
+public interface Autosave {
+
+    /**
+     * Records the changes of the world published at the end of a tick.
+     *
+     * @param events the events of the tick
+     */
+    void onWorldEvents(List<WorldEvent> events);
+
+    /**
+     * Writes what has been recorded during the tick, and starts a full save when one is due.
+     */
+    void onTick();
+
+    /**
+     * Stops autosaving, what has already been written is kept.
+     */
+    void close();
+}
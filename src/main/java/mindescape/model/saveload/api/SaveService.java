@@ -0,0 +1,28 @@
+package mindescape.model.saveload.api;
+
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
+
+import mindescape.model.saveload.util.SaveSnapshot;
+
+/**
+ * Saves games in the background, so that the caller is never blocked by the disk.
+ */
+public interface SaveService {
+
+    /**
+     * Starts saving a snapshot, the save file of the player is replaced only once the new one
+     * has been completely written.
+     *
+     * @param snapshot the state to save
+     * @param progress receives how much of the save has been done, from 0 to 1, on the thread that writes it
+     * @return a future completed with the save file, or exceptionally if the save failed
+     */
+    CompletableFuture<File> save(SaveSnapshot snapshot, DoubleConsumer progress);
+
+    /**
+     * Stops accepting new saves, the saves already started are completed.
+     */
+    void shutdown();
+}
@@ -3,6 +3,7 @@ package mindescape.model.saveload.api;
 import java.io.File;
 import java.util.List;
 import mindescape.model.api.Model;
+import mindescape.model.saveload.util.SaveMetadata;
 
 /**
  * The Saves interface provides a method to retrieve a list of save files.
@@ -10,10 +11,26 @@ import mindescape.model.api.Model;
 public interface Saves extends Model {
 
     /**
-     * Retrieves a list of save files sorted by their last modified date in descending order.
+     * Retrieves a list of save files sorted by the time they were saved in descending order.
      *
      * @return a list of sorted save files.
      */
     List<File> getSortedSaveFiles();
 
+    /**
+     * Retrieves the description of every save, sorted by the time they were saved in descending order,
+     * without reading the save files.
+     *
+     * @return the metadata of the saves.
+     */
+    List<SaveMetadata> getSaveSlots();
+
+    /**
+     * Returns the file of a save.
+     *
+     * @param slot the metadata of the save
+     * @return the save file.
+     */
+    File getSaveFile(SaveMetadata slot);
+
 }
@@ -0,0 +1,230 @@
+package mindescape.model.saveload.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.model.saveload.api.Autosave;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.util.JournalRecord;
+import mindescape.model.saveload.util.SaveJournal;
+import mindescape.model.saveload.util.SaveSnapshot;
+import mindescape.model.world.api.World;
+import mindescape.model.world.events.api.WorldEvent;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.api.Unpickable;
+import mindescape.model.world.items.interactable.api.UnpickableWithEnigma;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Implementation of the {@link Autosave} interface.
+ * <p>
+ * Every tick the changes of the world are appended to a {@link SaveJournal} with a single write,
+ * and every {@link #PROPERTY} seconds the whole world is saved with the {@link SaveService}, after
+ * which the journals included in the save are deleted. The first full save is made at the first tick,
+ * so that the journal of a session is always replayed on top of the state the session started from.
+ * The moves of the player are written at most every {@link #MOVE_TICKS} ticks, unless something
+ * else is written in the same tick.
+ * </p>
+ * <p>
+ * If the journal cannot be written the autosave stops journaling but keeps the full saves,
+ * the game itself is never interrupted.
+ * </p>
+ */
+public final class AutosaveImpl implements Autosave {
+
+    /**
+     * The system property with the seconds between two full saves, 0 disables the autosave.
+     */
+    public static final String PROPERTY = "mindescape.autosave";
+
+    /**
+     * The number of ticks the moves of the player can wait before being written.
+     */
+    public static final int MOVE_TICKS = 30;
+
+    private static final long DEFAULT_SECONDS = 60;
+
+    private final World world;
+    private final SaveService saveService;
+    private final File folder;
+    private final long intervalNanos;
+    private final List<JournalRecord> records = new ArrayList<>();
+    private SaveJournal journal;
+    private CompletableFuture<?> compaction = CompletableFuture.completedFuture(null);
+    private long nextCompaction;
+    private boolean moved;
+    private int ticksSinceMove;
+    private boolean closed;
+
+    /**
+     * Constructs an autosave of a world, with the interval read from the {@link #PROPERTY} system property.
+     *
+     * @param world the world to save
+     * @param saveService the service that writes the full saves
+     * @param folder the folder of the saves
+     */
+    public AutosaveImpl(final World world, final SaveService saveService, final File folder) {
+        this(world, saveService, folder, Duration.ofSeconds(Long.getLong(PROPERTY, DEFAULT_SECONDS)));
+    }
+
+    /**
+     * Tells whether the {@link #PROPERTY} system property enables the autosave.
+     *
+     * @return true if the worlds are saved automatically
+     */
+    public static boolean isEnabled() {
+        return Long.getLong(PROPERTY, DEFAULT_SECONDS) > 0;
+    }
+
+    /**
+     * Constructs an autosave of a world.
+     *
+     * @param world the world to save
+     * @param saveService the service that writes the full saves
+     * @param folder the folder of the saves
+     * @param interval the time between two full saves, zero or negative to disable the autosave
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "The world and the service are shared on purpose")
+    public AutosaveImpl(final World world, final SaveService saveService, final File folder, final Duration interval) {
+        this.world = Objects.requireNonNull(world);
+        this.saveService = Objects.requireNonNull(saveService);
+        this.folder = Objects.requireNonNull(folder);
+        this.intervalNanos = interval.toNanos();
+        this.closed = this.intervalNanos <= 0;
+        this.nextCompaction = System.nanoTime();
+        if (!this.closed) {
+            try {
+                this.journal = SaveJournal.open(folder, world.getPlayer().getName());
+            } catch (final IOException e) {
+                this.journal = null;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * Once the game is won what has been recorded is written and the autosave is closed.
+     */
+    @Override
+    public void onWorldEvents(final List<WorldEvent> events) {
+        if (closed) {
+            return;
+        }
+        if (journal != null) {
+            events.forEach(this::record);
+        }
+        if (events.stream().anyMatch(event -> event instanceof WorldEvent.GameWon)) {
+            close();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onTick() {
+        if (closed) {
+            return;
+        }
+        writeJournal();
+        if (System.nanoTime() - nextCompaction >= 0 && compaction.isDone()) {
+            nextCompaction = System.nanoTime() + intervalNanos;
+            compact();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            ticksSinceMove = MOVE_TICKS;
+            writeJournal();
+            closed = true;
+        }
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+    }
+
+    /*
+     * Turns an event into the record of what it changed, moves are only noted and written later.
+     */
+    private void record(final WorldEvent event) {
+        if (event instanceof WorldEvent.PlayerMoved || event instanceof WorldEvent.RoomEntered) {
+            moved = true;
+        } else if (event instanceof WorldEvent.InventoryChanged changed) {
+            records.add(new JournalRecord.InventorySet(changed.inventory().getItems().stream()
+                .map(item -> new SaveSnapshot.Item(item.getId(), item.getName()))
+                .toList()));
+        } else if (event instanceof WorldEvent.ObjectRemoved removed && removed.object() instanceof Pickable pickable) {
+            records.add(new JournalRecord.PickableRemoved(removed.room().getName(), pickable.getId()));
+        } else if (event instanceof WorldEvent.ObjectUnlocked unlocked) {
+            records.add(unlockedRecord(unlocked.room(), unlocked.object()));
+        } else if (event instanceof WorldEvent.EnigmaSolved solved) {
+            world.getRooms().forEach(room -> room.getGameObjectsOfType(UnpickableWithEnigma.class).stream()
+                .filter(obj -> obj.getEnigma().equals(solved.enigma()) && obj.isUnlocked())
+                .forEach(obj -> records.add(unlockedRecord(room, obj))));
+        }
+    }
+
+    private void writeJournal() {
+        if (journal == null) {
+            return;
+        }
+        ticksSinceMove++;
+        if (moved && (!records.isEmpty() || ticksSinceMove >= MOVE_TICKS)) {
+            final Player player = world.getPlayer();
+            records.add(new JournalRecord.PlayerPlaced(player.getCurrentRoom().getName(), player.getPosition()));
+            moved = false;
+            ticksSinceMove = 0;
+        }
+        try {
+            journal.append(records);
+        } catch (final IOException e) {
+            journal.close();
+            journal = null;
+        }
+        records.clear();
+    }
+
+    /*
+     * Saves the whole world in the background, then deletes the journals the save includes.
+     */
+    private void compact() {
+        final SaveSnapshot snapshot;
+        try {
+            snapshot = journal != null ? journal.rotate(world) : SaveJournal.checkpoint(world, folder);
+        } catch (final IOException e) {
+            return;
+        }
+        try {
+            compaction = saveService.save(snapshot, progress -> { })
+                .thenRun(() -> {
+                    try {
+                        SaveJournal.compacted(folder, snapshot);
+                    } catch (final IOException e) {
+                        // the journals older than the save are never replayed
+                    }
+                })
+                .exceptionally(error -> null);
+        } catch (final RejectedExecutionException e) {
+            // the game is closing, the journal keeps what the save would have written
+        }
+    }
+
+    private static JournalRecord unlockedRecord(final Room room, final Unpickable object) {
+        return new JournalRecord.ObjectUnlocked(room.getName(),
+            new SaveSnapshot.UnlockedObject(object.getName(), object.getPosition()));
+    }
+}
@@ -0,0 +1,80 @@
+package mindescape.model.saveload.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.DoubleConsumer;
+
+import mindescape.model.executor.impl.ManagedExecutorImpl;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.util.SaveManager;
+import mindescape.model.saveload.util.SaveSnapshot;
+
+/**
+ * Implementation of the {@link SaveService} interface.
+ * <p>
+ * The saves are encoded and written one at a time on the {@link ManagedExecutorImpl} of the game,
+ * in the order they are requested, with {@link SaveManager#writeSnapshot(SaveSnapshot, File, DoubleConsumer)}:
+ * every save starts when the previous one has ended, so no thread is kept waiting for them.
+ * </p>
+ */
+public final class SaveServiceImpl implements SaveService {
+
+    private final File folder;
+    private final Executor executor;
+    private CompletableFuture<?> last = CompletableFuture.completedFuture(null);
+    private boolean shutdown;
+
+    /**
+     * Constructs a service that saves in the default save folder.
+     */
+    public SaveServiceImpl() {
+        this(SaveManager.getSaveFolder());
+    }
+
+    /**
+     * Constructs a service that saves in the given folder.
+     *
+     * @param folder the folder of the saves
+     */
+    public SaveServiceImpl(final File folder) {
+        this.folder = Objects.requireNonNull(folder);
+        this.executor = ManagedExecutorImpl.getInstance();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws RejectedExecutionException if the service has been shut down
+     */
+    @Override
+    public synchronized CompletableFuture<File> save(final SaveSnapshot snapshot, final DoubleConsumer progress) {
+        Objects.requireNonNull(snapshot, "Snapshot cannot be null");
+        if (shutdown) {
+            throw new RejectedExecutionException("The save service has been shut down");
+        }
+        final CompletableFuture<File> result = last
+            .handle((previous, error) -> null)
+            .thenApplyAsync(ignored -> {
+                try {
+                    return SaveManager.writeSnapshot(snapshot, folder, progress);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException("Error saving game status", e);
+                }
+            }, executor);
+        last = result;
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void shutdown() {
+        shutdown = true;
+    }
+}
@@ -1,17 +1,20 @@
 package mindescape.model.saveload.impl;
 
 import java.io.File;
-import java.util.Arrays;
-import com.google.common.collect.Ordering;
 import java.util.List;
 import mindescape.model.saveload.api.Saves;
+import mindescape.model.saveload.util.SaveIndex;
+import mindescape.model.saveload.util.SaveManager;
+import mindescape.model.saveload.util.SaveMetadata;
 
 /**
  * Implementation of the Saves interface.
+ * The saves are listed through the {@link SaveIndex} of the saves directory.
  */
 public final class SavesImpl implements Saves {
 
-    private final File savesDirectory = new File("saves");
+    private final File savesDirectory = SaveManager.getSaveFolder();
+    private final SaveIndex index = new SaveIndex(savesDirectory);
 
     /**
      * Constructor for the SavesImpl class.
@@ -29,14 +32,24 @@ public final class SavesImpl implements Saves {
      */
     @Override
     public List<File> getSortedSaveFiles() {
-        final var files = savesDirectory.listFiles((dir, name) -> name.endsWith(".sav"));
+        return getSaveSlots().stream()
+            .map(this::getSaveFile)
+            .toList();
+    }
 
-        if (files == null || files.length == 0) {
-            return List.of();
-        }
-        return Ordering.natural()
-            .onResultOf(File::lastModified)
-            .reverse()
-            .sortedCopy(Arrays.asList(files));
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SaveMetadata> getSaveSlots() {
+        return index.list();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public File getSaveFile(final SaveMetadata slot) {
+        return new File(savesDirectory, slot.fileName());
     }
 }
@@ -0,0 +1,247 @@
+package mindescape.model.saveload.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.api.Unpickable;
+import mindescape.model.world.items.interactable.impl.RewardFactory;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.player.impl.PlayerImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+/**
+ * A compact binary format for the saved games.
+ * 
+ * <p>Only what can change while playing is written: where the player is, the ids of the items
+ * in the inventory, the ids of the pickables still lying in each room and which objects have
+ * been unlocked. Everything else is rebuilt from the maps of the rooms when the game is loaded,
+ * so a save takes a few hundred bytes instead of the whole object graph of the world.</p>
+ * 
+ * <p>The layout, after the {@link #MAGIC} number and the version byte, is:</p>
+ * <pre>
+ * long    first generation of the {@link SaveJournal} not included in the save (since version 2)
+ * long    milliseconds the world has been played (since version 3)
+ * UTF     player name
+ * UTF     name of the room the player is in
+ * double  x, double y of the player
+ * short   number of items in the inventory, then for each: int id, UTF name
+ * byte    number of rooms, then for each:
+ *         UTF    room name
+ *         short  number of pickables left, then for each: int id
+ *         short  number of unlocked objects, then for each: UTF name, double x, double y
+ * </pre>
+ */
+public final class CompactSaveFormat {
+
+    /**
+     * The first four bytes of a compact save, "MESC" in ASCII.
+     * Saves written with Java serialization start with a different number.
+     */
+    public static final int MAGIC = 0x4D455343;
+
+    /**
+     * The version of the layout written by {@link #write(World, DataOutput)}.
+     */
+    public static final int VERSION = 3;
+
+    private CompactSaveFormat() {
+        throw new AssertionError("Utility class should not be instantiated");
+    }
+
+    /**
+     * Writes the state of a world, header included.
+     *
+     * @param world the world to save
+     * @param out where to write it
+     * @throws IOException if the state cannot be written
+     */
+    public static void write(final World world, final DataOutput out) throws IOException {
+        write(SaveSnapshot.of(world), out);
+    }
+
+    /**
+     * Writes a snapshot of a world, header included.
+     *
+     * @param snapshot the state to save
+     * @param out where to write it
+     * @throws IOException if the state cannot be written
+     */
+    public static void write(final SaveSnapshot snapshot, final DataOutput out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(snapshot.generation());
+        out.writeLong(snapshot.playTime().toMillis());
+        out.writeUTF(snapshot.playerName());
+        out.writeUTF(snapshot.roomName());
+        out.writeDouble(snapshot.position().x());
+        out.writeDouble(snapshot.position().y());
+        out.writeShort(snapshot.items().size());
+        for (final SaveSnapshot.Item item : snapshot.items()) {
+            out.writeInt(item.id());
+            out.writeUTF(item.name());
+        }
+        out.writeByte(snapshot.rooms().size());
+        for (final SaveSnapshot.RoomState room : snapshot.rooms()) {
+            out.writeUTF(room.name());
+            out.writeShort(room.pickables().size());
+            for (final int id : room.pickables()) {
+                out.writeInt(id);
+            }
+            out.writeShort(room.unlocked().size());
+            for (final SaveSnapshot.UnlockedObject unlocked : room.unlocked()) {
+                out.writeUTF(unlocked.name());
+                out.writeDouble(unlocked.position().x());
+                out.writeDouble(unlocked.position().y());
+            }
+        }
+    }
+
+    /**
+     * Reads a world written by {@link #write(World, DataOutput)}, header included.
+     * The rooms are created again from their maps and then brought to the saved state.
+     *
+     * @param in where to read the world from
+     * @return the loaded world
+     * @throws IOException if the data is not a compact save, has an unknown version or is truncated
+     */
+    public static World read(final DataInput in) throws IOException {
+        return restore(readSnapshot(in));
+    }
+
+    /**
+     * Reads a snapshot written by {@link #write(SaveSnapshot, DataOutput)}, header included,
+     * without building the world.
+     *
+     * @param in where to read the snapshot from
+     * @return the snapshot, saves of the first version include no journal and older saves no play time
+     * @throws IOException if the data is not a compact save, has an unknown version or is truncated
+     */
+    public static SaveSnapshot readSnapshot(final DataInput in) throws IOException {
+        final int version = readVersion(in);
+        final long generation = version >= 2 ? in.readLong() : 0;
+        final Duration playTime = version >= 3 ? Duration.ofMillis(in.readLong()) : Duration.ZERO;
+        final String username = in.readUTF();
+        final String roomName = in.readUTF();
+        final Point2D position = new Point2D(in.readDouble(), in.readDouble());
+        final List<SaveSnapshot.Item> items = new ArrayList<>();
+        final int itemCount = in.readUnsignedShort();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new SaveSnapshot.Item(in.readInt(), in.readUTF()));
+        }
+        final List<SaveSnapshot.RoomState> rooms = new ArrayList<>();
+        final int roomCount = in.readUnsignedByte();
+        for (int i = 0; i < roomCount; i++) {
+            rooms.add(readRoom(in));
+        }
+        return new SaveSnapshot(username, roomName, position, items, rooms, generation, playTime);
+    }
+
+    /**
+     * Reads only the header of a compact save.
+     *
+     * @param in where to read the header from
+     * @return the first generation of the journal that is not included in the save
+     * @throws IOException if the data is not a compact save or has an unknown version
+     */
+    public static long readHeader(final DataInput in) throws IOException {
+        return readVersion(in) >= 2 ? in.readLong() : 0;
+    }
+
+    private static int readVersion(final DataInput in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a compact save");
+        }
+        final int version = in.readUnsignedByte();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported save version " + version);
+        }
+        return version;
+    }
+
+    /**
+     * Builds a world in the state of a snapshot.
+     * The rooms are created again from their maps and then brought to the saved state.
+     *
+     * @param snapshot the state of the world
+     * @return the world
+     * @throws IOException if the room of the player does not exist
+     */
+    public static World restore(final SaveSnapshot snapshot) throws IOException {
+        final List<Room> rooms = RoomImpl.createRooms();
+        final Map<Integer, Pickable> knownItems = collectItems(rooms);
+        final List<Pickable> items = new ArrayList<>();
+        for (final SaveSnapshot.Item item : snapshot.items()) {
+            Optional.ofNullable(knownItems.get(item.id()))
+                .or(() -> Optional.ofNullable(new RewardFactory().getReward(item.name())))
+                .ifPresent(items::add);
+        }
+        for (final SaveSnapshot.RoomState state : snapshot.rooms()) {
+            findRoom(rooms, state.name()).ifPresent(room -> restoreRoom(room, state));
+        }
+        final Room currentRoom = findRoom(rooms, snapshot.roomName())
+            .orElseThrow(() -> new IOException("Unknown room " + snapshot.roomName()));
+        final Player player = new PlayerImpl(snapshot.position(), snapshot.playerName(), Dimensions.TILE, currentRoom);
+        currentRoom.addGameObject(player);
+        items.forEach(player.getInventory()::addItems);
+        final World world = new WorldImpl(rooms, player);
+        world.addPlayTime(snapshot.playTime());
+        return world;
+    }
+
+    private static SaveSnapshot.RoomState readRoom(final DataInput in) throws IOException {
+        final String name = in.readUTF();
+        final List<Integer> pickables = new ArrayList<>();
+        final int pickableCount = in.readUnsignedShort();
+        for (int i = 0; i < pickableCount; i++) {
+            pickables.add(in.readInt());
+        }
+        final List<SaveSnapshot.UnlockedObject> unlocked = new ArrayList<>();
+        final int unlockedCount = in.readUnsignedShort();
+        for (int i = 0; i < unlockedCount; i++) {
+            unlocked.add(new SaveSnapshot.UnlockedObject(in.readUTF(), new Point2D(in.readDouble(), in.readDouble())));
+        }
+        return new SaveSnapshot.RoomState(name, pickables, unlocked);
+    }
+
+    private static void restoreRoom(final Room room, final SaveSnapshot.RoomState state) {
+        final Set<Integer> pickables = new HashSet<>(state.pickables());
+        final Set<SaveSnapshot.UnlockedObject> unlocked = new HashSet<>(state.unlocked());
+        List.copyOf(room.getGameObjectsOfType(Pickable.class)).stream()
+            .filter(pickable -> !pickables.contains(pickable.getId()))
+            .forEach(room::removeGameObject);
+        room.getGameObjectsOfType(Unpickable.class).forEach(unpickable -> unpickable.restoreUnlocked(
+            unlocked.contains(new SaveSnapshot.UnlockedObject(unpickable.getName(), unpickable.getPosition()))));
+    }
+
+    /*
+     * Every item the player can hold, by id: the pickables lying in the rooms and the rewards.
+     */
+    private static Map<Integer, Pickable> collectItems(final List<Room> rooms) {
+        final Map<Integer, Pickable> items = new HashMap<>();
+        for (final Room room : rooms) {
+            room.getGameObjectsOfType(Pickable.class).forEach(pickable -> items.put(pickable.getId(), pickable));
+            room.getGameObjectsOfType(Unpickable.class).forEach(unpickable ->
+                unpickable.getReward().ifPresent(reward -> items.put(reward.getId(), reward)));
+        }
+        return items;
+    }
+
+    private static Optional<Room> findRoom(final List<Room> rooms, final String name) {
+        return rooms.stream().filter(room -> room.getName().equals(name)).findFirst();
+    }
+}
@@ -0,0 +1,159 @@
+package mindescape.model.saveload.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import mindescape.model.world.core.api.Point2D;
+
+/**
+ * A change of the world written to the {@link SaveJournal} between two full saves.
+ * <p>
+ * Every record sets a piece of the state instead of describing how it changed, so replaying
+ * the records in order on top of a {@link SaveSnapshot} gives the state after the last one.
+ * </p>
+ */
+public sealed interface JournalRecord {
+
+    /**
+     * Writes the record, its type included.
+     * @param out where to write the record
+     * @throws IOException if the record cannot be written
+     */
+    void write(DataOutput out) throws IOException;
+
+    /**
+     * Applies the record to a snapshot.
+     * @param snapshot the state before the record
+     * @return the state after the record
+     */
+    SaveSnapshot applyTo(SaveSnapshot snapshot);
+
+    /**
+     * Reads a record written by {@link #write(DataOutput)}.
+     * @param in where to read the record from
+     * @return the record
+     * @throws IOException if the type of the record is unknown or the record is truncated
+     */
+    static JournalRecord read(final DataInput in) throws IOException {
+        final int type = in.readUnsignedByte();
+        return switch (type) {
+            case PlayerPlaced.TYPE -> new PlayerPlaced(in.readUTF(), new Point2D(in.readDouble(), in.readDouble()));
+            case InventorySet.TYPE -> {
+                final List<SaveSnapshot.Item> items = new ArrayList<>();
+                final int count = in.readUnsignedShort();
+                for (int i = 0; i < count; i++) {
+                    items.add(new SaveSnapshot.Item(in.readInt(), in.readUTF()));
+                }
+                yield new InventorySet(items);
+            }
+            case PickableRemoved.TYPE -> new PickableRemoved(in.readUTF(), in.readInt());
+            case ObjectUnlocked.TYPE -> new ObjectUnlocked(in.readUTF(),
+                new SaveSnapshot.UnlockedObject(in.readUTF(), new Point2D(in.readDouble(), in.readDouble())));
+            default -> throw new IOException("Unknown journal record " + type);
+        };
+    }
+
+    /**
+     * The player is in a room at a position.
+     * @param room the name of the room
+     * @param position the position of the player
+     */
+    record PlayerPlaced(String room, Point2D position) implements JournalRecord {
+
+        private static final int TYPE = 1;
+
+        @Override
+        public void write(final DataOutput out) throws IOException {
+            out.writeByte(TYPE);
+            out.writeUTF(room);
+            out.writeDouble(position.x());
+            out.writeDouble(position.y());
+        }
+
+        @Override
+        public SaveSnapshot applyTo(final SaveSnapshot snapshot) {
+            return snapshot.withPlayer(room, position);
+        }
+    }
+
+    /**
+     * The inventory holds these items.
+     * @param items the items in the inventory
+     */
+    record InventorySet(List<SaveSnapshot.Item> items) implements JournalRecord {
+
+        private static final int TYPE = 2;
+
+        /**
+         * Constructor of the record, the list is copied.
+         * @param items the items in the inventory
+         */
+        public InventorySet {
+            items = List.copyOf(items);
+        }
+
+        @Override
+        public void write(final DataOutput out) throws IOException {
+            out.writeByte(TYPE);
+            out.writeShort(items.size());
+            for (final SaveSnapshot.Item item : items) {
+                out.writeInt(item.id());
+                out.writeUTF(item.name());
+            }
+        }
+
+        @Override
+        public SaveSnapshot applyTo(final SaveSnapshot snapshot) {
+            return snapshot.withItems(items);
+        }
+    }
+
+    /**
+     * A pickable is no longer in a room.
+     * @param room the name of the room
+     * @param id the id of the pickable
+     */
+    record PickableRemoved(String room, int id) implements JournalRecord {
+
+        private static final int TYPE = 3;
+
+        @Override
+        public void write(final DataOutput out) throws IOException {
+            out.writeByte(TYPE);
+            out.writeUTF(room);
+            out.writeInt(id);
+        }
+
+        @Override
+        public SaveSnapshot applyTo(final SaveSnapshot snapshot) {
+            return snapshot.withRoom(room, state -> state.withoutPickable(id));
+        }
+    }
+
+    /**
+     * An object of a room has been unlocked, or the enigma that locks it has been solved.
+     * @param room the name of the room
+     * @param object the unlocked object
+     */
+    record ObjectUnlocked(String room, SaveSnapshot.UnlockedObject object) implements JournalRecord {
+
+        private static final int TYPE = 4;
+
+        @Override
+        public void write(final DataOutput out) throws IOException {
+            out.writeByte(TYPE);
+            out.writeUTF(room);
+            out.writeUTF(object.name());
+            out.writeDouble(object.position().x());
+            out.writeDouble(object.position().y());
+        }
+
+        @Override
+        public SaveSnapshot applyTo(final SaveSnapshot snapshot) {
+            return snapshot.withRoom(room, state -> state.withUnlocked(object));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package mindescape.model.saveload.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import mindescape.model.world.api.World;
+
+/**
+ * A small file next to the saves that describes each of them with a {@link SaveMetadata},
+ * so that the load screen lists thousands of saves reading a single file, without opening
+ * the saves or asking the file system when each one was modified.
+ * <p>
+ * The index is updated every time a save is written. When the saves in the folder differ from
+ * those it describes it is rebuilt and written again: saves it does not know about, such as those
+ * written before it existed, are read once and added to it, saves that no longer exist are removed.
+ * </p>
+ * <p>
+ * The layout is the {@link #MAGIC} number, the version byte, an int with the number of saves
+ * and then, for each save: UTF file name, UTF player name, UTF room name, long milliseconds
+ * played, int number of items, long timestamp.
+ * </p>
+ */
+public final class SaveIndex {
+
+    /**
+     * The first four bytes of the index, "MESI" in ASCII.
+     */
+    public static final int MAGIC = 0x4D455349;
+
+    /**
+     * The version of the layout of the index.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * The name of the index file in the folder of the saves.
+     */
+    public static final String FILE_NAME = "saves.index";
+
+    private static final String SAVE_EXTENSION = ".sav";
+    private static final Object LOCK = new Object();
+
+    private final File folder;
+
+    /**
+     * Constructs the index of a folder of saves.
+     * @param folder the folder of the saves
+     */
+    public SaveIndex(final File folder) {
+        this.folder = Objects.requireNonNull(folder);
+    }
+
+    /**
+     * Returns the metadata of every save in the folder, the most recent first.
+     * @return the metadata of the saves
+     */
+    public List<SaveMetadata> list() {
+        synchronized (LOCK) {
+            final String[] names = folder.list((dir, name) -> name.endsWith(SAVE_EXTENSION));
+            if (names == null) {
+                return List.of();
+            }
+            final Set<String> saves = Set.of(names);
+            final List<SaveMetadata> entries = readIndex();
+            final boolean stale = !entries.stream().map(SaveMetadata::fileName).collect(Collectors.toSet()).equals(saves);
+            final Map<String, SaveMetadata> indexed = entries.stream()
+                .filter(metadata -> saves.contains(metadata.fileName()))
+                .collect(Collectors.toMap(SaveMetadata::fileName, metadata -> metadata, (a, b) -> b, HashMap::new));
+            Arrays.stream(names)
+                .filter(name -> !indexed.containsKey(name))
+                .forEach(name -> indexed.put(name, describe(new File(folder, name))));
+            final List<SaveMetadata> sorted = indexed.values().stream()
+                .sorted(Comparator.comparingLong(SaveMetadata::timestamp).reversed()
+                    .thenComparing(SaveMetadata::fileName))
+                .toList();
+            if (stale) {
+                try {
+                    writeIndex(sorted);
+                } catch (final IOException e) {
+                    // the saves are described again next time
+                }
+            }
+            return sorted;
+        }
+    }
+
+    /**
+     * Adds or replaces the metadata of a save.
+     * @param metadata the metadata of the save that has been written
+     * @throws IOException if the index cannot be written
+     */
+    public void put(final SaveMetadata metadata) throws IOException {
+        synchronized (LOCK) {
+            final List<SaveMetadata> entries = new ArrayList<>(readIndex());
+            entries.removeIf(entry -> entry.fileName().equals(metadata.fileName()));
+            entries.add(0, metadata);
+            writeIndex(entries);
+        }
+    }
+
+    private List<SaveMetadata> readIndex() {
+        final List<SaveMetadata> entries = new ArrayList<>();
+        try (InputStream stream = Files.newInputStream(indexPath());
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+                return List.of();
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                entries.add(new SaveMetadata(in.readUTF(), in.readUTF(), in.readUTF(),
+                    Duration.ofMillis(in.readLong()), in.readInt(), in.readLong()));
+            }
+            return entries;
+        } catch (final NoSuchFileException e) {
+            return List.of();
+        } catch (final IOException e) {
+            // a damaged index is rebuilt from the saves
+            return List.of();
+        }
+    }
+
+    private void writeIndex(final List<SaveMetadata> entries) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(entries.size());
+            for (final SaveMetadata entry : entries) {
+                out.writeUTF(entry.fileName());
+                out.writeUTF(entry.playerName());
+                out.writeUTF(entry.roomName());
+                out.writeLong(entry.playTime().toMillis());
+                out.writeInt(entry.itemCount());
+                out.writeLong(entry.timestamp());
+            }
+        }
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Error creating save directory");
+        }
+        final Path temp = Files.createTempFile(folder.toPath(), FILE_NAME, ".tmp");
+        try {
+            Files.write(temp, bytes.toByteArray());
+            try {
+                Files.move(temp, indexPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, indexPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /*
+     * Reads a save the index does not know about, only compact saves are read without building the world.
+     */
+    private static SaveMetadata describe(final File file) {
+        try (InputStream stream = Files.newInputStream(file.toPath());
+            DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            return SaveMetadata.of(CompactSaveFormat.readSnapshot(in), file, file.lastModified());
+        } catch (final IOException e) {
+            final World world = SaveManager.loadGameStatus(file);
+            return world != null
+                ? SaveMetadata.of(SaveSnapshot.of(world), file, file.lastModified())
+                : new SaveMetadata(file.getName(), file.getName().replace(SAVE_EXTENSION, ""), "", Duration.ZERO, 0,
+                    file.lastModified());
+        }
+    }
+
+    private Path indexPath() {
+        return new File(folder, FILE_NAME).toPath();
+    }
+}
@@ -0,0 +1,328 @@
+package mindescape.model.saveload.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import mindescape.model.world.api.World;
+
+/**
+ * An append-only journal of the changes of a world, kept next to its save file so that
+ * a crash loses at most the last few ticks instead of everything since the last save.
+ * <p>
+ * The journal is split in generations, one file each, named {@code <player>.<generation>.journal}.
+ * Taking a snapshot for a full save moves the journal to the next generation and marks the
+ * snapshot with it, so that loading replays on top of a save exactly the journals written after
+ * it, and the older ones can be deleted once the save is on disk.
+ * </p>
+ * <p>
+ * A file starts with the {@link #MAGIC} number, the version byte and its generation, then holds
+ * the records, each written as its length, its CRC32 and its bytes. A record cut by a crash
+ * fails the check and is ignored, together with anything after it in the same file.
+ * </p>
+ * <p>
+ * Appended records are handed to the operating system at once but forced to the disk only when
+ * the generation changes or the journal is closed: a crash of the game loses nothing, a crash of
+ * the whole system may lose the records appended since then.
+ * </p>
+ * <p>
+ * Records are appended and generations changed only by the thread that runs the world.
+ * </p>
+ */
+public final class SaveJournal implements Closeable {
+
+    /**
+     * The first four bytes of a journal file, "MEJR" in ASCII.
+     */
+    public static final int MAGIC = 0x4D454A52;
+
+    /**
+     * The version of the layout of the journal files.
+     */
+    public static final int VERSION = 1;
+
+    private static final String EXTENSION = ".journal";
+    private static final int MAX_RECORD_SIZE = 64 * 1024;
+    private static final Map<String, SaveJournal> OPEN = new ConcurrentHashMap<>();
+
+    private final File folder;
+    private final String playerName;
+    private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream frameBytes = new ByteArrayOutputStream();
+    private final DataOutputStream recordOut = new DataOutputStream(recordBytes);
+    private final DataOutputStream frameOut = new DataOutputStream(frameBytes);
+    private final CRC32 crc = new CRC32();
+    private long generation;
+    private FileChannel channel;
+
+    private SaveJournal(final File folder, final String playerName, final long generation) {
+        this.folder = folder;
+        this.playerName = playerName;
+        this.generation = generation;
+    }
+
+    /**
+     * Opens the journal of a player, its first generation is newer than the save and the journals
+     * already in the folder. The journal is found by {@link #checkpoint(World, File)} until it is closed.
+     *
+     * @param folder the folder of the saves
+     * @param playerName the name of the player
+     * @return the journal
+     * @throws IOException if the save of the player cannot be read
+     */
+    public static SaveJournal open(final File folder, final String playerName) throws IOException {
+        final SaveJournal journal = new SaveJournal(folder, playerName, nextGeneration(folder, playerName));
+        Optional.ofNullable(OPEN.put(playerName, journal)).ifPresent(SaveJournal::closeChannel);
+        return journal;
+    }
+
+    /**
+     * Takes the snapshot of a world for a full save, it must be called on the thread that runs it.
+     * If a journal is open for its player it is moved to the next generation.
+     *
+     * @param world the world to save
+     * @param folder the folder of the saves
+     * @return the snapshot, marked with the first generation it does not include
+     * @throws IOException if the save of the player cannot be read
+     */
+    public static SaveSnapshot checkpoint(final World world, final File folder) throws IOException {
+        final String name = world.getPlayer().getName();
+        final SaveJournal journal = OPEN.get(name);
+        return journal != null
+            ? journal.rotate(world)
+            : SaveSnapshot.of(world).withGeneration(nextGeneration(folder, name));
+    }
+
+    /**
+     * Deletes the journals included in a save that has been written.
+     *
+     * @param folder the folder of the saves
+     * @param snapshot the snapshot that has been saved
+     * @throws IOException if a journal cannot be deleted
+     */
+    public static void compacted(final File folder, final SaveSnapshot snapshot) throws IOException {
+        for (final File file : journals(folder, snapshot.playerName())) {
+            if (generationOf(file, snapshot.playerName()) < snapshot.generation()) {
+                Files.deleteIfExists(file.toPath());
+            }
+        }
+    }
+
+    /**
+     * Replays on top of a snapshot the journals that it does not include, oldest first.
+     *
+     * @param snapshot the saved state
+     * @param folder the folder of the saves
+     * @return the state after the last record that was completely written
+     * @throws IOException if a journal cannot be read
+     */
+    public static SaveSnapshot replay(final SaveSnapshot snapshot, final File folder) throws IOException {
+        SaveSnapshot state = snapshot;
+        for (final File file : journals(folder, snapshot.playerName())) {
+            if (generationOf(file, snapshot.playerName()) >= snapshot.generation()) {
+                for (final JournalRecord record : readRecords(file)) {
+                    state = record.applyTo(state);
+                }
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Tells whether there is any journal of a player.
+     *
+     * @param folder the folder of the saves
+     * @param playerName the name of the player
+     * @return true if at least one journal exists
+     */
+    public static boolean hasJournal(final File folder, final String playerName) {
+        return !journals(folder, playerName).isEmpty();
+    }
+
+    /**
+     * Appends records to the current generation, with a single write.
+     *
+     * @param records the records to append
+     * @throws IOException if the records cannot be written
+     */
+    public void append(final List<JournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        frameBytes.reset();
+        for (final JournalRecord record : records) {
+            recordBytes.reset();
+            record.write(recordOut);
+            crc.reset();
+            crc.update(recordBytes.toByteArray());
+            frameOut.writeInt(recordBytes.size());
+            frameOut.writeInt((int) crc.getValue());
+            recordBytes.writeTo(frameOut);
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(frameBytes.toByteArray());
+        final FileChannel current = channel();
+        while (buffer.hasRemaining()) {
+            current.write(buffer);
+        }
+    }
+
+    /**
+     * Returns the generation records are appended to.
+     *
+     * @return the current generation
+     */
+    public long getGeneration() {
+        return this.generation;
+    }
+
+    /**
+     * Forces the current generation to the disk and closes the journal, its files are kept.
+     */
+    @Override
+    public void close() {
+        OPEN.remove(playerName, this);
+        closeChannel();
+    }
+
+    /**
+     * Takes the snapshot of a world for a full save and moves to the next generation, so that
+     * the records appended from now on are not included in it. The generation left behind is
+     * forced to the disk first.
+     * It must be called on the thread that runs the world.
+     *
+     * @param world the world to save
+     * @return the snapshot, marked with the new generation
+     */
+    public SaveSnapshot rotate(final World world) {
+        closeChannel();
+        generation++;
+        return SaveSnapshot.of(world).withGeneration(generation);
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            if (!folder.exists() && !folder.mkdirs()) {
+                throw new IOException("Error creating save directory");
+            }
+            final File file = new File(folder, playerName + "." + generation + EXTENSION);
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+            if (channel.size() == 0) {
+                final ByteBuffer header = ByteBuffer.allocate(Integer.BYTES + 1 + Long.BYTES)
+                    .putInt(MAGIC)
+                    .put((byte) VERSION)
+                    .putLong(generation)
+                    .flip();
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+            }
+        }
+        return channel;
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try (FileChannel closing = channel) {
+                closing.force(false);
+            } catch (final IOException e) {
+                // the records already written are kept by the system anyway
+            }
+            channel = null;
+        }
+    }
+
+    private static List<JournalRecord> readRecords(final File file) throws IOException {
+        final List<JournalRecord> records = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(file.toPath()))) {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION) {
+                return records;
+            }
+            in.readLong();
+            final CRC32 check = new CRC32();
+            while (true) {
+                final int size = in.readInt();
+                final int expected = in.readInt();
+                if (size <= 0 || size > MAX_RECORD_SIZE) {
+                    return records;
+                }
+                final byte[] bytes = in.readNBytes(size);
+                check.reset();
+                check.update(bytes);
+                if (bytes.length < size || (int) check.getValue() != expected) {
+                    return records;
+                }
+                records.add(JournalRecord.read(new DataInputStream(new ByteArrayInputStream(bytes))));
+            }
+        } catch (final EOFException e) {
+            return records;
+        }
+    }
+
+    /*
+     * The generation after the save and the journals of a player, so that new records are replayed last.
+     */
+    private static long nextGeneration(final File folder, final String playerName) throws IOException {
+        long next = savedGeneration(new File(folder, playerName + ".sav"));
+        for (final File file : journals(folder, playerName)) {
+            next = Math.max(next, generationOf(file, playerName) + 1);
+        }
+        return next;
+    }
+
+    private static long savedGeneration(final File saveFile) throws IOException {
+        if (!saveFile.exists()) {
+            return 0;
+        }
+        try (InputStream stream = Files.newInputStream(saveFile.toPath());
+            DataInputStream in = new DataInputStream(stream)) {
+            return CompactSaveFormat.readHeader(in);
+        } catch (final EOFException e) {
+            return 0;
+        } catch (final IOException e) {
+            // a save written with Java serialization includes no journal
+            return 0;
+        }
+    }
+
+    private static List<File> journals(final File folder, final String playerName) {
+        Objects.requireNonNull(playerName);
+        final File[] files = folder.listFiles((dir, name) -> name.startsWith(playerName + ".") && name.endsWith(EXTENSION)
+            && isGeneration(name.substring(playerName.length() + 1, name.length() - EXTENSION.length())));
+        if (files == null) {
+            return List.of();
+        }
+        return Arrays.stream(files)
+            .sorted(Comparator.comparingLong(file -> generationOf(file, playerName)))
+            .toList();
+    }
+
+    private static boolean isGeneration(final String text) {
+        return !text.isEmpty() && text.length() < String.valueOf(Long.MAX_VALUE).length()
+            && text.chars().allMatch(Character::isDigit);
+    }
+
+    private static long generationOf(final File file, final String playerName) {
+        final String name = file.getName();
+        return Long.parseLong(name.substring(playerName.length() + 1, name.length() - EXTENSION.length()));
+    }
+}
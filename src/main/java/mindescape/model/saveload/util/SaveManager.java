@@ -4,65 +4,156 @@ import mindescape.model.world.api.World;
 import mindescape.model.world.impl.WorldImpl;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.rooms.api.Room;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.DoubleConsumer;
 
 /**
  * The SaveManager class provides methods to save and load the game state.
  * 
- * <p>This class handles the serialization and deserialization of the {@code World} object,
- * allowing the game state to be saved to and loaded from files. The save files are stored
- * in a directory specified by the {@code SAVE_FOLDER} constant.</p>
+ * <p>This class saves the {@code World} object in the {@link CompactSaveFormat}, allowing the game
+ * state to be saved to and loaded from files. The save files are stored in a directory specified
+ * by the {@code SAVE_FOLDER} constant.</p>
  * 
- * <p>Note: The {@code World} class and its dependencies must be serializable for the save
- * and load operations to work correctly.</p>
+ * <p>Saves written before the compact format, with the Java serialization of the player and of the
+ * rooms, can still be loaded.</p>
  * 
  * @see World
+ * @see CompactSaveFormat
  */
 public final class SaveManager {
 
     private static final String SAVE_FOLDER = "saves";
+    private static final int CHUNK_SIZE = 8 * 1024;
+    private static final double ENCODED = 0.1;
+    private static final double WRITTEN = 0.9;
 
     private SaveManager() {
         throw new AssertionError("Utility class should not be instantiated");
     }
 
+    /**
+     * Returns the folder the games are saved in.
+     *
+     * @return the folder of the saves, it may not exist yet
+     */
+    public static File getSaveFolder() {
+        return new File(SAVE_FOLDER);
+    }
+
     /**
      * Saves the current game status to a file.
      *
-     * <p>This method serializes the given {@code World} object and saves it to a file
+     * <p>This method writes the state of the given {@code World} object to a file
      * named after the player's username in the specified save folder. If the save
      * directory does not exist, it will be created.</p>
      *
      * @param world the {@code World} object representing the current game state
      * @throws NullPointerException if the {@code World} object is null
+     * @see #writeSnapshot(SaveSnapshot, File, DoubleConsumer)
      */
     public static void saveGameStatus(final World world) {
         Objects.requireNonNull(world, "World object cannot be null");
-        final var username = world.getPlayer().getName();
-        final File saveDir = new File(SAVE_FOLDER);
+        try {
+            writeSnapshot(SaveSnapshot.of(world), getSaveFolder(), progress -> { });
+        } catch (final IOException e) {
+            throw new IllegalStateException("Error saving game status", e);
+        }
+    }
 
-        if (!saveDir.exists() && !saveDir.mkdirs()) {
-            throw new SecurityException("Error creating save directory");
+    /**
+     * Writes a snapshot to the save file of its player, in the given folder.
+     *
+     * <p>The snapshot is encoded in memory and written through a channel to a temporary file
+     * next to the save file, which is forced to the disk and then moved over the save file in a
+     * single step. A crash while saving therefore leaves the previous save untouched. Where the
+     * platform allows it, the folder is forced to the disk too, so that the move itself survives
+     * a crash.
+     * The {@link SaveIndex} of the folder is then updated.</p>
+     *
+     * @param snapshot the state to save
+     * @param folder the folder of the saves, created if it does not exist
+     * @param progress receives how much of the save has been done, from 0 to 1, on the calling thread
+     * @return the save file
+     * @throws IOException if the save cannot be written, in this case the previous save is kept
+     */
+    public static File writeSnapshot(final SaveSnapshot snapshot, final File folder,
+            final DoubleConsumer progress) throws IOException {
+        Objects.requireNonNull(snapshot, "Snapshot cannot be null");
+        if (!folder.exists() && !folder.mkdirs()) {
+            throw new IOException("Error creating save directory");
         }
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            CompactSaveFormat.write(snapshot, out);
+        }
+        progress.accept(ENCODED);
 
-        final File saveFile = new File(SAVE_FOLDER, username + ".sav");
+        final Path target = new File(folder, snapshot.playerName() + ".sav").toPath();
+        final Path temp = Files.createTempFile(folder.toPath(), snapshot.playerName(), ".tmp");
+        boolean moved = false;
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                final ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+                final int size = buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    buffer.limit(Math.min(size, buffer.position() + CHUNK_SIZE));
+                    channel.write(buffer);
+                    buffer.limit(size);
+                    progress.accept(ENCODED + (WRITTEN - ENCODED) * buffer.position() / size);
+                }
+                channel.force(true);
+            }
+            progress.accept(WRITTEN);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moved = true;
+            forceDirectory(folder.toPath());
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(temp);
+            }
+        }
+        try {
+            new SaveIndex(folder).put(SaveMetadata.of(snapshot, target.toFile(), System.currentTimeMillis()));
+        } catch (final IOException e) {
+            // the save has been written, the index describes it again when the saves are listed
+        }
+        progress.accept(1);
+        return target.toFile();
+    }
 
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(saveFile))) {
-            oos.writeObject(world.getPlayer());
-            oos.writeObject(world.getRooms());
+    private static void forceDirectory(final Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
         } catch (final IOException e) {
-            throw new IllegalStateException("Error saving game status", e);
+            // some platforms, such as Windows, cannot open or force a directory
         }
     }
+
     /**
      * Loads the game status from the specified save file.
+     * The format of the file is recognized from its first bytes, and the changes journaled
+     * after the save was written are replayed on top of it, see {@link SaveJournal}.
      *
      * @param saveFile the file from which to load the game status
      * @return the loaded World object, or null if an error occurs
@@ -75,14 +166,32 @@ public final class SaveManager {
         if (!saveFile.exists()) {
             throw new IllegalArgumentException("Save file does not exist");
         }
-        try (ObjectInputStream ois = new ObjectInputStream(new FileInputStream(saveFile))) {
-            final var player = (Player) ois.readObject();
-
-            @SuppressWarnings("unchecked")
-            final var rooms = (List<Room>) ois.readObject();
-            return new WorldImpl(rooms, player);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(saveFile)))) {
+            in.mark(Integer.BYTES);
+            final boolean compact = in.readInt() == CompactSaveFormat.MAGIC;
+            in.reset();
+            final File folder = saveFile.getAbsoluteFile().getParentFile();
+            if (compact) {
+                return CompactSaveFormat.restore(SaveJournal.replay(CompactSaveFormat.readSnapshot(in), folder));
+            }
+            final World world = loadLegacyGameStatus(in);
+            return SaveJournal.hasJournal(folder, world.getPlayer().getName())
+                ? CompactSaveFormat.restore(SaveJournal.replay(SaveSnapshot.of(world), folder))
+                : world;
         } catch (IOException | ClassNotFoundException e) {
             return null;
         }
     }
+
+    /*
+     * Reads a save written with the Java serialization of the player and of the rooms.
+     */
+    private static World loadLegacyGameStatus(final InputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream ois = new ObjectInputStream(in);
+        final var player = (Player) ois.readObject();
+
+        @SuppressWarnings("unchecked")
+        final var rooms = (List<Room>) ois.readObject();
+        return new WorldImpl(rooms, player);
+    }
 }
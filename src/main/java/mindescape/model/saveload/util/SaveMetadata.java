@@ -0,0 +1,48 @@
+package mindescape.model.saveload.util;
+
+import java.io.File;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * What the load screen shows of a save, kept in the {@link SaveIndex} so that the save itself
+ * does not have to be read.
+ *
+ * @param fileName the name of the save file in the folder of the saves
+ * @param playerName the name of the player
+ * @param roomName the name of the room the player is in, empty if it is not known
+ * @param playTime how long the world has been played
+ * @param itemCount the number of items in the inventory
+ * @param timestamp when the save was written, in milliseconds since the epoch
+ */
+public record SaveMetadata(String fileName, String playerName, String roomName, Duration playTime, int itemCount,
+        long timestamp) {
+
+    /**
+     * Constructor of the record.
+     * @param fileName the name of the save file in the folder of the saves
+     * @param playerName the name of the player
+     * @param roomName the name of the room the player is in, empty if it is not known
+     * @param playTime how long the world has been played
+     * @param itemCount the number of items in the inventory
+     * @param timestamp when the save was written, in milliseconds since the epoch
+     */
+    public SaveMetadata {
+        Objects.requireNonNull(fileName);
+        Objects.requireNonNull(playerName);
+        Objects.requireNonNull(roomName);
+        Objects.requireNonNull(playTime);
+    }
+
+    /**
+     * Describes a snapshot that has been saved.
+     * @param snapshot the saved state
+     * @param file the save file
+     * @param timestamp when the save was written, in milliseconds since the epoch
+     * @return the metadata of the save
+     */
+    public static SaveMetadata of(final SaveSnapshot snapshot, final File file, final long timestamp) {
+        return new SaveMetadata(file.getName(), snapshot.playerName(), snapshot.roomName(), snapshot.playTime(),
+            snapshot.items().size(), timestamp);
+    }
+}
@@ -0,0 +1,199 @@
+package mindescape.model.saveload.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.UnaryOperator;
+
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.api.Unpickable;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * An immutable copy of the state of a world that a save is made of.
+ * <p>
+ * It is taken on the thread that runs the world, between two ticks, so that it can be
+ * encoded and written on any other thread while the game goes on.
+ * </p>
+ *
+ * @param playerName the name of the player
+ * @param roomName the name of the room the player is in
+ * @param position the position of the player
+ * @param items the items in the inventory
+ * @param rooms the state of every room
+ * @param generation the first generation of the {@link SaveJournal} that is not included in the snapshot
+ * @param playTime how long the world has been played
+ */
+public record SaveSnapshot(String playerName, String roomName, Point2D position, List<Item> items, List<RoomState> rooms,
+        long generation, Duration playTime) {
+
+    /**
+     * Constructor of the record, the lists are copied.
+     * @param playerName the name of the player
+     * @param roomName the name of the room the player is in
+     * @param position the position of the player
+     * @param items the items in the inventory
+     * @param rooms the state of every room
+     * @param generation the first generation of the journal that is not included in the snapshot
+     * @param playTime how long the world has been played
+     */
+    public SaveSnapshot {
+        items = List.copyOf(items);
+        rooms = List.copyOf(rooms);
+        Objects.requireNonNull(playTime);
+    }
+
+    /**
+     * Constructor of a snapshot that includes no journal, of a world never played.
+     * @param playerName the name of the player
+     * @param roomName the name of the room the player is in
+     * @param position the position of the player
+     * @param items the items in the inventory
+     * @param rooms the state of every room
+     */
+    public SaveSnapshot(final String playerName, final String roomName, final Point2D position,
+            final List<Item> items, final List<RoomState> rooms) {
+        this(playerName, roomName, position, items, rooms, 0, Duration.ZERO);
+    }
+
+    /**
+     * Returns the same snapshot, marked as including the journals before the given generation.
+     * @param generation the first generation of the journal that is not included
+     * @return the marked snapshot
+     */
+    public SaveSnapshot withGeneration(final long generation) {
+        return new SaveSnapshot(playerName, roomName, position, items, rooms, generation, playTime);
+    }
+
+    /**
+     * Returns the same snapshot with the player moved.
+     * @param room the name of the room the player is in
+     * @param playerPosition the position of the player
+     * @return the changed snapshot
+     */
+    public SaveSnapshot withPlayer(final String room, final Point2D playerPosition) {
+        return new SaveSnapshot(playerName, room, playerPosition, items, rooms, generation, playTime);
+    }
+
+    /**
+     * Returns the same snapshot with other items in the inventory.
+     * @param inventory the items in the inventory
+     * @return the changed snapshot
+     */
+    public SaveSnapshot withItems(final List<Item> inventory) {
+        return new SaveSnapshot(playerName, roomName, position, inventory, rooms, generation, playTime);
+    }
+
+    /**
+     * Returns the same snapshot with a room changed, a room that is not in the snapshot is left out.
+     * @param roomName the name of the room to change
+     * @param change how to change the room
+     * @return the changed snapshot
+     */
+    public SaveSnapshot withRoom(final String roomName, final UnaryOperator<RoomState> change) {
+        return new SaveSnapshot(playerName, this.roomName, position, items,
+            rooms.stream()
+                .map(room -> room.name().equals(roomName) ? change.apply(room) : room)
+                .toList(),
+            generation, playTime);
+    }
+
+    /**
+     * Copies the state of a world, it must be called on the thread that runs it.
+     * @param world the world to copy
+     * @return the snapshot
+     */
+    public static SaveSnapshot of(final World world) {
+        final Player player = world.getPlayer();
+        return new SaveSnapshot(
+            player.getName(),
+            player.getCurrentRoom().getName(),
+            player.getPosition(),
+            player.getInventory().getItems().stream()
+                .map(item -> new Item(item.getId(), item.getName()))
+                .toList(),
+            world.getRooms().stream()
+                .map(RoomState::of)
+                .toList(),
+            0,
+            world.getPlayTime()
+        );
+    }
+
+    /**
+     * An item of the inventory.
+     * @param id the id of the item
+     * @param name the name of the item, used when the id cannot be found in the rooms
+     */
+    public record Item(int id, String name) {
+    }
+
+    /**
+     * An object that has been unlocked, objects are told apart by their name and position
+     * since several objects of a room can have the same name.
+     * @param name the name of the object
+     * @param position the position of the object
+     */
+    public record UnlockedObject(String name, Point2D position) {
+    }
+
+    /**
+     * The state of a room.
+     * @param name the name of the room
+     * @param pickables the ids of the pickables still in the room
+     * @param unlocked the objects of the room that have been unlocked
+     */
+    public record RoomState(String name, List<Integer> pickables, List<UnlockedObject> unlocked) {
+
+        /**
+         * Constructor of the record, the lists are copied.
+         * @param name the name of the room
+         * @param pickables the ids of the pickables still in the room
+         * @param unlocked the objects of the room that have been unlocked
+         */
+        public RoomState {
+            pickables = List.copyOf(pickables);
+            unlocked = List.copyOf(unlocked);
+        }
+
+        /**
+         * Returns the same room without a pickable.
+         * @param id the id of the pickable that is no longer in the room
+         * @return the changed room
+         */
+        public RoomState withoutPickable(final int id) {
+            return new RoomState(name, pickables.stream().filter(p -> p != id).toList(), unlocked);
+        }
+
+        /**
+         * Returns the same room with one more unlocked object.
+         * @param object the unlocked object
+         * @return the changed room
+         */
+        public RoomState withUnlocked(final UnlockedObject object) {
+            if (unlocked.contains(object)) {
+                return this;
+            }
+            final List<UnlockedObject> objects = new ArrayList<>(unlocked);
+            objects.add(object);
+            return new RoomState(name, pickables, objects);
+        }
+
+        private static RoomState of(final Room room) {
+            return new RoomState(
+                room.getName(),
+                room.getGameObjectsOfType(Pickable.class).stream()
+                    .map(Pickable::getId)
+                    .toList(),
+                room.getGameObjectsOfType(Unpickable.class).stream()
+                    .filter(Unpickable::isUnlocked)
+                    .map(obj -> new UnlockedObject(obj.getName(), obj.getPosition()))
+                    .toList()
+            );
+        }
+    }
+}
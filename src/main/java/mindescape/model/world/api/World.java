@@ -1,9 +1,11 @@
 package mindescape.model.world.api;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import mindescape.model.api.Model;
 import mindescape.model.enigma.api.Enigma;
+import mindescape.model.world.core.api.FrameState;
 import mindescape.model.world.core.api.Movement;
 import mindescape.model.world.core.api.WorldObserver;
 import mindescape.model.world.player.api.Player;
@@ -70,4 +72,28 @@ public interface World extends Model {
      */
     void setObserver(WorldObserver observer);
 
+    /**
+     * Ends the current tick, delivering to the observer the events that happened since the last call
+     * and then the {@link FrameState} of the tick.
+     */
+    void flushEvents();
+
+    /**
+     * Returns the snapshot published at the end of the last tick.
+     * @return the last {@link FrameState}, or a still one if no tick has ended yet.
+     */
+    FrameState getFrameState();
+
+    /**
+     * Returns how long the world has been played, over all the sessions it has been saved in.
+     * @return the play time
+     */
+    Duration getPlayTime();
+
+    /**
+     * Adds to the play time, called by whoever advances the world.
+     * @param time the time played
+     */
+    void addPlayTime(Duration time);
+
 }
@@ -3,6 +3,8 @@ package mindescape.model.world.core.api;
 import java.util.Optional;
 import java.util.Set;
 
+import mindescape.model.world.rooms.api.Room;
+
 /**
  * This interface is used to determine if an object is colliding with another object.
  */
@@ -16,5 +18,17 @@ public interface CollisionDetector {
      * @return an optional of the object that is colliding with
      */
     Optional<GameObject> collisions(Point2D position, Dimensions dim, Set<GameObject> roomObjects);
+
+    /**
+     * Given the position and the dimension of an object, determines if it collides with any object of the room.
+     * By default all the objects of the room are checked, implementations may use the room's {@link SpatialIndex}.
+     * @param position the position of the object
+     * @param dim its dimensions
+     * @param room the room the object is in
+     * @return an optional of the object that is colliding with
+     */
+    default Optional<GameObject> collisions(Point2D position, Dimensions dim, Room room) {
+        return collisions(position, dim, room.getGameObjects());
+    }
 }
 
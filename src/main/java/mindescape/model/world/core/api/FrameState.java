@@ -0,0 +1,67 @@
+package mindescape.model.world.core.api;
+
+import java.util.Objects;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * A snapshot of what the view needs to draw the world, taken by the model at the end of a tick.
+ * 
+ * @param tick the number of the tick the snapshot was taken at
+ * @param room the room the player is in
+ * @param previousPosition the position of the player at the previous tick, or the current one
+ *     if the player has just entered the room
+ * @param playerPosition the position of the player at this tick
+ */
+@SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The room is the live room of the world")
+public record FrameState(long tick, Room room, Point2D previousPosition, Point2D playerPosition) {
+
+    /**
+     * Constructor of the record.
+     * @param tick the number of the tick
+     * @param room the room the player is in
+     * @param previousPosition the position of the player at the previous tick
+     * @param playerPosition the position of the player at this tick
+     */
+    public FrameState {
+        Objects.requireNonNull(room);
+        Objects.requireNonNull(previousPosition);
+        Objects.requireNonNull(playerPosition);
+    }
+
+    /**
+     * Creates the snapshot of a player that has not moved yet.
+     * @param tick the number of the tick
+     * @param room the room the player is in
+     * @param playerPosition the position of the player
+     * @return the snapshot
+     */
+    public static FrameState still(final long tick, final Room room, final Point2D playerPosition) {
+        return new FrameState(tick, room, playerPosition, playerPosition);
+    }
+
+    /**
+     * Creates the snapshot of the next tick.
+     * @param room the room the player is in at the next tick
+     * @param playerPosition the position of the player at the next tick
+     * @return the snapshot of the next tick, moving from this one unless the player changed room
+     */
+    public FrameState next(final Room room, final Point2D playerPosition) {
+        return room.equals(this.room)
+            ? new FrameState(tick + 1, room, this.playerPosition, playerPosition)
+            : still(tick + 1, room, playerPosition);
+    }
+
+    /**
+     * Returns where the player is between the previous tick and this one.
+     * @param alpha how far the current frame is from the previous tick, between 0 and 1
+     * @return the interpolated position of the player
+     */
+    public Point2D interpolate(final double alpha) {
+        return new Point2D(
+            previousPosition.x() + (playerPosition.x() - previousPosition.x()) * alpha,
+            previousPosition.y() + (playerPosition.y() - previousPosition.y()) * alpha
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package mindescape.model.world.core.api;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.model.world.events.api.WorldEvent;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * A record that describes how the room the player is in has changed.
+ * 
+ * @param room the room the player is in after the change
+ * @param entered whether the player has just entered the room, in this case the sets are empty
+ * @param added the objects added to the room
+ * @param removed the objects removed from the room
+ */
+@SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "The room is the live room of the world")
+public record RoomChange(Room room, boolean entered, Set<GameObject> added, Set<GameObject> removed) {
+
+    /**
+     * Constructor of the record, the sets are copied.
+     * @param room the room the player is in after the change
+     * @param entered whether the player has just entered the room
+     * @param added the objects added to the room
+     * @param removed the objects removed from the room
+     */
+    public RoomChange {
+        added = Set.copyOf(added);
+        removed = Set.copyOf(removed);
+    }
+
+    /**
+     * Creates the change of a player entering a room.
+     * @param room the entered room
+     * @return the change
+     */
+    public static RoomChange entered(final Room room) {
+        return new RoomChange(room, true, Set.of(), Set.of());
+    }
+
+    /**
+     * Creates the change of a room by comparing its objects with the ones it had before.
+     * @param room the changed room
+     * @param before the objects the room had before the change
+     * @return the change
+     */
+    public static RoomChange between(final Room room, final Set<GameObject> before) {
+        final Set<GameObject> added = new HashSet<>(room.getGameObjects());
+        added.removeAll(before);
+        final Set<GameObject> removed = new HashSet<>(before);
+        removed.removeAll(room.getGameObjects());
+        return new RoomChange(room, false, added, removed);
+    }
+
+    /**
+     * Creates the change of the room the player is in from the events of a tick.
+     * @param room the room the player is in
+     * @param events the events of the tick
+     * @return an optional of the change, empty if the events do not change the room
+     */
+    public static Optional<RoomChange> fromEvents(final Room room, final List<WorldEvent> events) {
+        final Set<GameObject> added = new HashSet<>();
+        final Set<GameObject> removed = new HashSet<>();
+        for (final WorldEvent event : events) {
+            if (event instanceof WorldEvent.RoomEntered entered && entered.room().equals(room)) {
+                return Optional.of(entered(room));
+            } else if (event instanceof WorldEvent.ObjectAdded add && add.room().equals(room)) {
+                added.add(add.object());
+            } else if (event instanceof WorldEvent.ObjectRemoved remove && remove.room().equals(room)) {
+                removed.add(remove.object());
+            }
+        }
+        final RoomChange change = new RoomChange(room, false, added, removed);
+        return change.isEmpty() ? Optional.empty() : Optional.of(change);
+    }
+
+    /**
+     * Tells whether the change has nothing to show.
+     * @return true if the player has not entered the room and no object has been added or removed
+     */
+    public boolean isEmpty() {
+        return !entered && added.isEmpty() && removed.isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package mindescape.model.world.core.api;
+
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * An index of the objects of a room by their position, used to find the objects
+ * near an area without looking at all the objects of the room.
+ */
+public interface SpatialIndex {
+
+    /**
+     * Adds an object to the index.
+     * @param gameObject the object to add, it must have a position
+     */
+    void add(GameObject gameObject);
+
+    /**
+     * Removes an object from the index.
+     * @param gameObject the object to remove
+     */
+    void remove(GameObject gameObject);
+
+    /**
+     * Returns the first object near the given area that satisfies the predicate.
+     * Only the objects that may overlap the area are tested, each of them possibly more than once.
+     * @param position the upper left corner of the area
+     * @param dim the dimensions of the area
+     * @param filter the predicate the object has to satisfy
+     * @return an optional of the object found
+     */
+    Optional<GameObject> findFirst(Point2D position, Dimensions dim, Predicate<GameObject> filter);
+
+    /**
+     * Returns the number of objects in the index.
+     * @return the number of indexed objects
+     */
+    int size();
+}
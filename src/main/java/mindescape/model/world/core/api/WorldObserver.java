@@ -1,14 +1,24 @@
 package mindescape.model.world.core.api;
 
-import mindescape.model.world.rooms.api.Room;
+import java.util.List;
+
+import mindescape.model.world.events.api.WorldEvent;
 
 /**
  * The {@code WorldObserver} interface provides the methods to observe the world.
  */
 public interface WorldObserver {
     /**
-     * Called when the room has changed (pickable is pickde or the player has changes room).
-     * @param newRoom the new room.
+     * Called at the end of a tick with the events that happened during it, already coalesced.
+     * The list is valid only during the call.
+     * @param events the events of the tick, never empty.
+     */
+    void onWorldEvents(List<WorldEvent> events);
+
+    /**
+     * Called once at the end of every tick, after the events, with the snapshot to draw.
+     * @param state the state of the world at the end of the tick.
      */
-    void onRoomChanged(Room newRoom);
+    default void onFrame(final FrameState state) {
+    }
 }
@@ -0,0 +1,48 @@
+package mindescape.model.world.core.impl;
+
+import java.util.Optional;
+import java.util.Set;
+
+import mindescape.model.world.core.api.CollisionDetector;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Implementation of the CollisionDetector interface that uses the {@link mindescape.model.world.core.api.SpatialIndex}
+ * of the room, so that only the objects near the moving object are checked, and its baked static geometry,
+ * so that the walls cost a few bit tests whatever their number.
+ */
+public final class GridCollisionDetector implements CollisionDetector {
+
+    private final CollisionDetector fallback = new CollisionDetectorImpl();
+
+    /**
+     * {@inheritDoc}
+     * A plain set has no index, so all its objects are checked.
+     */
+    @Override
+    public Optional<GameObject> collisions(final Point2D position, final Dimensions dim, final Set<GameObject> roomObjects) {
+        return fallback.collisions(position, dim, roomObjects);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The objects that can be interacted with are preferred over the static geometry.
+     */
+    @Override
+    public Optional<GameObject> collisions(final Point2D position, final Dimensions dim, final Room room) {
+        final Optional<GameObject> dynamic = room.getSpatialIndex().findFirst(position, dim, obj -> areColliding(position, dim, obj));
+        return dynamic.isPresent() ? dynamic : room.findStaticCollision(position, dim);
+    }
+
+    private boolean areColliding(final Point2D position, final Dimensions dim, final GameObject obj) {
+        final Point2D objPos = obj.getPosition();
+        final Dimensions objDim = obj.getDimensions();
+        return position.x() < objPos.x() + objDim.width()
+            && position.x() + dim.width() > objPos.x()
+            && position.y() < objPos.y() + objDim.height()
+            && position.y() + dim.height() > objPos.y();
+    }
+}
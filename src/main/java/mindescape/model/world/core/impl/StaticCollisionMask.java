@@ -0,0 +1,103 @@
+package mindescape.model.world.core.impl;
+
+import java.util.Arrays;
+
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+
+/**
+ * A per-pixel occupancy bitmap of the geometry of a room that never moves.
+ * <p>
+ * Every row of the room is stored in a few {@code long} words, one bit per pixel, so checking
+ * whether an area touches the static geometry costs a couple of bit tests per row, whatever the
+ * number of objects baked in. A pixel is occupied when an object overlaps it even partially,
+ * hence the mask may report as occupied an area that only shares a pixel with an object
+ * without overlapping it: callers that need an exact answer must confirm a positive result.
+ * </p>
+ */
+public final class StaticCollisionMask {
+
+    private static final int WORD_SHIFT = 6;
+    private static final int WORD_MASK = Long.SIZE - 1;
+    private static final long ALL_BITS = -1L;
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] bits;
+
+    /**
+     * Constructs an empty mask covering a room.
+     * @param roomDimensions the dimensions of the room
+     */
+    public StaticCollisionMask(final Dimensions roomDimensions) {
+        this.width = Math.max(1, (int) Math.ceil(roomDimensions.width()));
+        this.height = Math.max(1, (int) Math.ceil(roomDimensions.height()));
+        this.wordsPerRow = (width + WORD_MASK) >>> WORD_SHIFT;
+        this.bits = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Marks as occupied all the pixels overlapped by an area.
+     * The part of the area outside the room is ignored.
+     * @param position the upper left corner of the area
+     * @param dim the dimensions of the area
+     */
+    public void fill(final Point2D position, final Dimensions dim) {
+        final int firstColumn = first(position.x());
+        final int lastColumn = last(position.x() + dim.width(), width);
+        final int lastRow = last(position.y() + dim.height(), height);
+        if (firstColumn > lastColumn) {
+            return;
+        }
+        for (int row = first(position.y()); row <= lastRow; row++) {
+            for (int word = firstColumn >>> WORD_SHIFT; word <= lastColumn >>> WORD_SHIFT; word++) {
+                bits[row * wordsPerRow + word] |= wordMask(word, firstColumn, lastColumn);
+            }
+        }
+    }
+
+    /**
+     * Tells whether an area overlaps at least one occupied pixel.
+     * @param position the upper left corner of the area
+     * @param dim the dimensions of the area
+     * @return true if an occupied pixel is found, false otherwise
+     */
+    public boolean intersects(final Point2D position, final Dimensions dim) {
+        final int firstColumn = first(position.x());
+        final int lastColumn = last(position.x() + dim.width(), width);
+        final int lastRow = last(position.y() + dim.height(), height);
+        if (firstColumn > lastColumn) {
+            return false;
+        }
+        for (int row = first(position.y()); row <= lastRow; row++) {
+            for (int word = firstColumn >>> WORD_SHIFT; word <= lastColumn >>> WORD_SHIFT; word++) {
+                if ((bits[row * wordsPerRow + word] & wordMask(word, firstColumn, lastColumn)) != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks all the pixels as free.
+     */
+    public void clear() {
+        Arrays.fill(bits, 0L);
+    }
+
+    private static long wordMask(final int word, final int firstColumn, final int lastColumn) {
+        final int low = word == firstColumn >>> WORD_SHIFT ? firstColumn & WORD_MASK : 0;
+        final int high = word == lastColumn >>> WORD_SHIFT ? lastColumn & WORD_MASK : WORD_MASK;
+        return ALL_BITS << low & ALL_BITS >>> WORD_MASK - high;
+    }
+
+    private static int first(final double start) {
+        return Math.max(0, (int) Math.floor(start));
+    }
+
+    private static int last(final double end, final int limit) {
+        return Math.min(limit - 1, (int) Math.ceil(end) - 1);
+    }
+}
@@ -0,0 +1,116 @@
+package mindescape.model.world.core.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.SpatialIndex;
+
+/**
+ * A {@link SpatialIndex} that divides the room in a grid of square cells.
+ * <p>
+ * Every object is stored in all the cells its bounding box overlaps, so a query only looks at the
+ * objects stored in the cells overlapped by the queried area. Objects outside the room are
+ * stored in the nearest border cells.
+ * </p>
+ */
+public final class UniformGrid implements SpatialIndex {
+
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final List<List<GameObject>> cells;
+    private int size;
+
+    /**
+     * Constructs an empty grid covering a room.
+     * @param roomDimensions the dimensions of the room
+     * @param cellSize the side of a cell, usually the side of a tile
+     */
+    public UniformGrid(final Dimensions roomDimensions, final double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("Cell size must be positive");
+        }
+        this.cellSize = cellSize;
+        this.columns = Math.max(1, (int) Math.ceil(roomDimensions.width() / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil(roomDimensions.height() / cellSize));
+        this.cells = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            this.cells.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(final GameObject gameObject) {
+        final Point2D pos = gameObject.getPosition();
+        final Dimensions dim = gameObject.getDimensions();
+        for (int row = row(pos.y()); row <= row(pos.y() + dim.height()); row++) {
+            for (int column = column(pos.x()); column <= column(pos.x() + dim.width()); column++) {
+                cells.get(row * columns + column).add(gameObject);
+            }
+        }
+        size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void remove(final GameObject gameObject) {
+        final Point2D pos = gameObject.getPosition();
+        final Dimensions dim = gameObject.getDimensions();
+        boolean removed = false;
+        for (int row = row(pos.y()); row <= row(pos.y() + dim.height()); row++) {
+            for (int column = column(pos.x()); column <= column(pos.x() + dim.width()); column++) {
+                removed |= cells.get(row * columns + column).remove(gameObject);
+            }
+        }
+        if (removed) {
+            size--;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<GameObject> findFirst(final Point2D position, final Dimensions dim, final Predicate<GameObject> filter) {
+        final int lastRow = row(position.y() + dim.height());
+        final int lastColumn = column(position.x() + dim.width());
+        for (int row = row(position.y()); row <= lastRow; row++) {
+            for (int column = column(position.x()); column <= lastColumn; column++) {
+                final List<GameObject> cell = cells.get(row * columns + column);
+                for (int i = 0; i < cell.size(); i++) {
+                    final GameObject candidate = cell.get(i);
+                    if (filter.test(candidate)) {
+                        return Optional.of(candidate);
+                    }
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    private int column(final double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+    }
+
+    private int row(final double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+    }
+}
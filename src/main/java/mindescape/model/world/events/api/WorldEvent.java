@@ -0,0 +1,88 @@
+package mindescape.model.world.events.api;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.model.enigma.api.Enigma;
+import mindescape.model.inventory.api.Inventory;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.items.interactable.api.Unpickable;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Something that happened in the world during a tick.
+ * The events carry the live objects of the world, which must only be read.
+ */
+public sealed interface WorldEvent {
+
+    /**
+     * The player has moved inside the room it is in.
+     *
+     * @param from the position before the first move of the tick
+     * @param to the position after the last move of the tick
+     */
+    record PlayerMoved(Point2D from, Point2D to) implements WorldEvent {
+    }
+
+    /**
+     * An object has been added to a room.
+     *
+     * @param room the room
+     * @param object the added object
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Events carry the live objects of the world")
+    record ObjectAdded(Room room, GameObject object) implements WorldEvent {
+    }
+
+    /**
+     * An object has been removed from a room.
+     *
+     * @param room the room
+     * @param object the removed object
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Events carry the live objects of the world")
+    record ObjectRemoved(Room room, GameObject object) implements WorldEvent {
+    }
+
+    /**
+     * The player has entered a room.
+     *
+     * @param room the entered room
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Events carry the live objects of the world")
+    record RoomEntered(Room room) implements WorldEvent {
+    }
+
+    /**
+     * An enigma the player was trying has been solved.
+     *
+     * @param enigma the solved enigma
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Events carry the live objects of the world")
+    record EnigmaSolved(Enigma enigma) implements WorldEvent {
+    }
+
+    /**
+     * An unpickable object has been unlocked by the player.
+     *
+     * @param room the room of the object
+     * @param object the unlocked object
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Events carry the live objects of the world")
+    record ObjectUnlocked(Room room, Unpickable object) implements WorldEvent {
+    }
+
+    /**
+     * All the win conditions of the world have been unlocked.
+     */
+    record GameWon() implements WorldEvent {
+    }
+
+    /**
+     * The content of the inventory of the player has changed.
+     *
+     * @param inventory the inventory after the change
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP", justification = "Events carry the live objects of the world")
+    record InventoryChanged(Inventory inventory) implements WorldEvent {
+    }
+}
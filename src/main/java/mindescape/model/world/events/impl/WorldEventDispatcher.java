@@ -0,0 +1,102 @@
+package mindescape.model.world.events.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import mindescape.model.inventory.api.Inventory;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.events.api.WorldEvent;
+
+/**
+ * Collects the events of a tick and delivers them together when the tick ends.
+ * <p>
+ * The events are coalesced while they are collected: all the moves of the player become
+ * a single {@link WorldEvent.PlayerMoved}, all the changes of the inventory a single
+ * {@link WorldEvent.InventoryChanged}, and an object added and removed during the same tick
+ * is not reported at all. The batch list is reused, so a consumer must not keep it after
+ * it has returned.
+ * </p>
+ */
+public final class WorldEventDispatcher {
+
+    private final List<WorldEvent> pending = new ArrayList<>();
+    private final List<WorldEvent> batch = Collections.unmodifiableList(pending);
+    private Point2D movedFrom;
+    private Point2D movedTo;
+    private Inventory changedInventory;
+    private Consumer<List<WorldEvent>> consumer = events -> { };
+
+    /**
+     * Sets who receives the batches of events.
+     * @param consumer the consumer of the batches.
+     */
+    public void setConsumer(final Consumer<List<WorldEvent>> consumer) {
+        this.consumer = Objects.requireNonNull(consumer);
+    }
+
+    /**
+     * Records a move of the player.
+     * @param from the position before the move.
+     * @param to the position after the move.
+     */
+    public void playerMoved(final Point2D from, final Point2D to) {
+        if (movedFrom == null) {
+            movedFrom = from;
+        }
+        movedTo = to;
+    }
+
+    /**
+     * Records a change of the inventory.
+     * @param inventory the changed inventory.
+     */
+    public void inventoryChanged(final Inventory inventory) {
+        changedInventory = inventory;
+    }
+
+    /**
+     * Records an event.
+     * @param event the event.
+     */
+    public void publish(final WorldEvent event) {
+        if (event instanceof WorldEvent.ObjectRemoved removed
+            && pending.remove(new WorldEvent.ObjectAdded(removed.room(), removed.object()))) {
+            return;
+        }
+        pending.add(event);
+    }
+
+    /**
+     * Tells whether there is nothing to deliver.
+     * @return true if no event has been recorded since the last flush.
+     */
+    public boolean isEmpty() {
+        return pending.isEmpty() && movedTo == null && changedInventory == null;
+    }
+
+    /**
+     * Delivers the recorded events in a single batch, if there is any, and starts a new batch.
+     */
+    public void flush() {
+        if (isEmpty()) {
+            return;
+        }
+        if (movedTo != null) {
+            pending.add(0, new WorldEvent.PlayerMoved(movedFrom, movedTo));
+        }
+        if (changedInventory != null) {
+            pending.add(new WorldEvent.InventoryChanged(changedInventory));
+        }
+        try {
+            consumer.accept(batch);
+        } finally {
+            pending.clear();
+            movedFrom = null;
+            movedTo = null;
+            changedInventory = null;
+        }
+    }
+}
@@ -1,26 +1,35 @@
 package mindescape.model.world.impl;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.model.enigma.api.Enigma;
 import mindescape.model.world.api.World;
 import mindescape.model.world.core.api.CollisionDetector;
 import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.FrameState;
 import mindescape.model.world.core.api.GameObject;
 import mindescape.model.world.core.api.Movement;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.model.world.core.api.WorldObserver;
-import mindescape.model.world.core.impl.CollisionDetectorImpl;
+import mindescape.model.world.core.impl.GridCollisionDetector;
+import mindescape.model.world.events.api.WorldEvent;
+import mindescape.model.world.events.impl.WorldEventDispatcher;
 import mindescape.model.world.items.interactable.api.Interactable;
+import mindescape.model.world.items.interactable.api.Unpickable;
 import mindescape.model.world.items.interactable.api.UnpickableWithEnigma;
 import mindescape.model.world.items.interactable.impl.LockedUnpickable;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.player.impl.PlayerImpl;
 import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.api.RoomObserver;
 import mindescape.model.world.rooms.impl.RoomImpl;
 
 /**
@@ -38,7 +47,21 @@ public final class WorldImpl implements World, Serializable {
     @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
     private transient Optional<GameObject> collidingObject;
     private final Point2D playerPosition = new Point2D(110, 170);
-    private transient WorldObserver observer;
+
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
+    private final transient WorldEventDispatcher events = new WorldEventDispatcher();
+
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
+    private transient Enigma pendingEnigma;
+
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
+    private final transient Set<Unpickable> winConditions = new HashSet<>();
+    private transient boolean won;
+
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Deserialization is handled by other classes")
+    private transient Consumer<FrameState> frameConsumer = state -> { };
+    private transient FrameState frameState;
+    private Duration playTime = Duration.ZERO;
 
     /**
      * Constructs a new WorldImpl instance.
@@ -53,8 +76,10 @@ public final class WorldImpl implements World, Serializable {
             .get();
         this.player = new PlayerImpl(playerPosition, username, Dimensions.TILE, currentRoom);
         currentRoom.addGameObject(player);
-        this.collisionDetector = new CollisionDetectorImpl();
+        this.collisionDetector = new GridCollisionDetector();
         this.collidingObject = Optional.empty();
+        observeSources();
+        registerWinConditions();
     }
 
     /**
@@ -67,8 +92,10 @@ public final class WorldImpl implements World, Serializable {
     public WorldImpl(final List<Room> rooms, final Player player) {
         this.rooms = rooms;
         this.player = player;
-        this.collisionDetector = new CollisionDetectorImpl();
+        this.collisionDetector = new GridCollisionDetector();
         this.collidingObject = Optional.empty();
+        observeSources();
+        registerWinConditions();
     }
 
     /**
@@ -91,15 +118,13 @@ public final class WorldImpl implements World, Serializable {
             if (this.collidingObject.get() instanceof UnpickableWithEnigma) {
                 enigma = Optional.of(((UnpickableWithEnigma) this.collidingObject.get()).getEnigma());
             }
-            final Room oldRoom = this.getCurrentRoom();
-            final int oldObjNum = oldRoom.getGameObjects().size();
-            if (this.collidingObject.get() instanceof Interactable) {
-                this.player.interact((Interactable) this.collidingObject.get());
-            }
-            final Room newRoom = this.getCurrentRoom();
-            final int newObjNum = newRoom.getGameObjects().size();
-            if (!oldRoom.getName().equals(newRoom.getName()) || oldObjNum != newObjNum) {
-                this.observer.onRoomChanged(newRoom);
+            if (this.collidingObject.get() instanceof Interactable interactable) {
+                final Room room = this.getCurrentRoom();
+                final boolean locked = interactable instanceof Unpickable unpickable && !unpickable.isUnlocked();
+                this.player.interact(interactable);
+                if (locked && ((Unpickable) interactable).isUnlocked()) {
+                    onUnlocked(room, (Unpickable) interactable);
+                }
             }
         }
 
@@ -107,6 +132,7 @@ public final class WorldImpl implements World, Serializable {
             return Optional.empty();
         }
 
+        enigma.ifPresent(e -> this.pendingEnigma = e);
         return enigma;
     }
 
@@ -115,18 +141,7 @@ public final class WorldImpl implements World, Serializable {
      */
     @Override
     public boolean hasWon() {
-        final LockedUnpickable mirror = (LockedUnpickable) this.getRooms()
-            .stream()
-            .filter(room -> "final".equals(room.getName()))
-            .findFirst()
-            .get()
-            .getGameObjects()
-            .stream()
-            .filter(x -> "Mirror".equals(x.getName()))
-            .findFirst()
-            .get();
-
-        return mirror.isUnlocked();
+        return this.won;
     }
 
     /**
@@ -157,11 +172,12 @@ public final class WorldImpl implements World, Serializable {
         final var position = new Point2D(playerPosition.x() + movement.getX(), playerPosition.y() + movement.getY());
         final var collidingObject = this.collisionDetector.collisions(
             position, this.player.getDimensions(), 
-            this.getCurrentRoom().getGameObjects()
+            this.getCurrentRoom()
         );
 
         if (collidingObject.isEmpty()) {
             this.player.move(movement);
+            this.events.playerMoved(playerPosition, this.player.getPosition());
         } 
         this.setCollidingObject(collidingObject);
     }
@@ -181,6 +197,104 @@ public final class WorldImpl implements World, Serializable {
 
     @Override
     public void setObserver(final WorldObserver observer) {
-        this.observer = observer;
+        this.events.setConsumer(observer::onWorldEvents);
+        this.frameConsumer = observer::onFrame;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The enigma the player last tried is checked here, since it is solved outside of the world.
+     */
+    @Override
+    public void flushEvents() {
+        if (this.pendingEnigma != null && this.pendingEnigma.isSolved()) {
+            this.events.publish(new WorldEvent.EnigmaSolved(this.pendingEnigma));
+            this.pendingEnigma = null;
+        }
+        this.events.flush();
+        this.frameState = getFrameState().next(getCurrentRoom(), this.player.getPosition());
+        this.frameConsumer.accept(this.frameState);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameState getFrameState() {
+        if (this.frameState == null) {
+            this.frameState = FrameState.still(0, getCurrentRoom(), this.player.getPosition());
+        }
+        return this.frameState;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Duration getPlayTime() {
+        return this.playTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addPlayTime(final Duration time) {
+        this.playTime = this.playTime.plus(time);
+    }
+
+    /*
+     * Looks for the objects to unlock to win once, so that winning is detected by their unlock events.
+     * Games saved before the win conditions were read from the map fall back to the mirror of the final room.
+     */
+    private void registerWinConditions() {
+        this.rooms.stream()
+            .flatMap(room -> room.getGameObjectsOfType(Unpickable.class).stream())
+            .filter(Unpickable::isWinCondition)
+            .forEach(this.winConditions::add);
+        if (this.winConditions.isEmpty()) {
+            this.rooms.stream()
+                .filter(room -> "final".equals(room.getName()))
+                .flatMap(room -> room.getGameObjectsByName("Mirror").stream())
+                .filter(obj -> obj instanceof LockedUnpickable)
+                .forEach(obj -> this.winConditions.add((Unpickable) obj));
+        }
+        final boolean registered = !this.winConditions.isEmpty();
+        this.winConditions.removeIf(Unpickable::isUnlocked);
+        if (registered && this.winConditions.isEmpty()) {
+            this.won = true;
+            this.events.publish(new WorldEvent.GameWon());
+        }
+    }
+
+    private void onUnlocked(final Room room, final Unpickable unpickable) {
+        this.events.publish(new WorldEvent.ObjectUnlocked(room, unpickable));
+        if (this.winConditions.remove(unpickable) && this.winConditions.isEmpty()) {
+            this.won = true;
+            this.events.publish(new WorldEvent.GameWon());
+        }
+    }
+
+    /*
+     * Turns the changes of the rooms and of the inventory into events.
+     */
+    private void observeSources() {
+        final RoomObserver roomObserver = new RoomObserver() {
+            @Override
+            public void onObjectAdded(final Room room, final GameObject gameObject) {
+                events.publish(gameObject instanceof Player
+                    ? new WorldEvent.RoomEntered(room)
+                    : new WorldEvent.ObjectAdded(room, gameObject));
+            }
+
+            @Override
+            public void onObjectRemoved(final Room room, final GameObject gameObject) {
+                if (!(gameObject instanceof Player)) {
+                    events.publish(new WorldEvent.ObjectRemoved(room, gameObject));
+                }
+            }
+        };
+        this.rooms.forEach(room -> room.setObserver(roomObserver));
+        this.player.getInventory().setObserver(this.events::inventoryChanged);
     }
 }
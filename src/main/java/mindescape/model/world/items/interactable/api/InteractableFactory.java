@@ -93,6 +93,20 @@ public interface InteractableFactory {
     Unpickable createLockedUnpickable(String name, Point2D position,
                                       Dimensions dimensions, int keyItemId, Pickable reward);
 
+    /**
+     * Creates an unpickable object requiring a specific pickable item to unlock, which may be needed to win the game.
+     *
+     * @param name         the name of the unpickable object
+     * @param position     the position of the unpickable object in the game world
+     * @param dimensions   the dimensions of the unpickable object
+     * @param keyItemId    the ID of the pickable item required to unlock the object
+     * @param reward       the pickable item rewarded after unlocking
+     * @param winCondition whether unlocking the object is needed to win the game
+     * @return a new instance of {@link Unpickable} requiring a pickable item to unlock
+     */
+    Unpickable createLockedUnpickable(String name, Point2D position,
+                                      Dimensions dimensions, int keyItemId, Pickable reward, boolean winCondition);
+
     /**
      * Creates an unpickable object that does not require unlocking but can optionally provide a pickable item.
      *
@@ -1,5 +1,7 @@
 package mindescape.model.world.items.interactable.api;
 
+import java.util.Optional;
+
 /**
  * The {@code Unpickable} interface represents an {@link Interactable} object that cannot be picked up.
  * It provides a method to check if the object is currently unlocked.
@@ -15,4 +17,31 @@ public interface Unpickable extends Interactable {
      * @return true if the item is unlocked, false otherwise.
      */
     boolean isUnlocked();
+
+    /**
+     * Checks if unlocking the item is needed to win the game.
+     *
+     * @return true if the item is a win condition, false otherwise.
+     */
+    default boolean isWinCondition() {
+        return false;
+    }
+
+    /**
+     * Returns the item given to the player when the object is unlocked.
+     *
+     * @return an optional with the reward, empty if the object has none.
+     */
+    default Optional<Pickable> getReward() {
+        return Optional.empty();
+    }
+
+    /**
+     * Brings the lock of the object back to a saved state, without rewarding the player.
+     * Objects that cannot be locked ignore it.
+     *
+     * @param unlocked whether the object has to be unlocked.
+     */
+    default void restoreUnlocked(final boolean unlocked) {
+    }
 }
@@ -24,4 +24,13 @@ public interface UnpickableWithEnigma extends Unpickable {
      * @return the {@link Enigma} linked to this object
      */
     Enigma getEnigma();
+
+    /**
+     * {@inheritDoc}
+     * The lock of the object is its enigma, so the enigma is restored.
+     */
+    @Override
+    default void restoreUnlocked(final boolean unlocked) {
+        getEnigma().restore(unlocked);
+    }
 }
@@ -48,9 +48,7 @@ public final class DoorLockedWithPickable extends AbstractDoorDecorator {
      */
     @Override
     public void onAction(final Player player) {
-        if (player.getInventory().getItems().stream()
-                .map(Pickable::getId)
-                .anyMatch(id -> id.equals(this.keyItemId))) {
+        if (player.getInventory().containsId(this.keyItemId)) {
             this.unlocked = true;
             this.baseDoor.onAction(player);
         }
@@ -65,4 +63,12 @@ public final class DoorLockedWithPickable extends AbstractDoorDecorator {
     public boolean isUnlocked() {
         return this.unlocked; 
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreUnlocked(final boolean unlocked) {
+        this.unlocked = unlocked;
+    }
 }
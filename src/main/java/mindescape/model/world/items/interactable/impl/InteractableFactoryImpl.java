@@ -113,6 +113,24 @@ public final class InteractableFactoryImpl implements InteractableFactory {
         return new LockedUnpickable(name, position, dimensions, keyItemId, reward);
     }
 
+    /**
+     * Creates an unpickable object requiring a pickable item to unlock, which may be needed to win the game.
+     *
+     * @param name         the name of the unpickable object
+     * @param position     the position in the game world
+     * @param dimensions   the dimensions of the unpickable object
+     * @param keyItemId    the ID of the item required to unlock the object
+     * @param reward       the pickable item rewarded after unlocking
+     * @param winCondition whether unlocking the object is needed to win the game
+     * @return a new {@link Unpickable} instance
+     */
+    @Override
+    public Unpickable createLockedUnpickable(final String name, final Point2D position,
+                                             final Dimensions dimensions, final int keyItemId,
+                                             final Pickable reward, final boolean winCondition) {
+        return new LockedUnpickable(name, position, dimensions, keyItemId, reward, winCondition);
+    }
+
     /**
      * Creates an unpickable object that does not require unlocking, optionally providing a reward.
      *
@@ -1,5 +1,7 @@
 package mindescape.model.world.items.interactable.impl;
 
+import java.util.Optional;
+
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.model.world.core.impl.GameObjectImpl;
@@ -25,6 +27,7 @@ public final class LockedUnpickable extends GameObjectImpl implements Unpickable
 
     private final int keyItemId;
     private final Pickable reward;
+    private final boolean winCondition;
     private boolean unlocked;
 
     /**
@@ -39,9 +42,26 @@ public final class LockedUnpickable extends GameObjectImpl implements Unpickable
     public LockedUnpickable(final String name, final Point2D position,
                             final Dimensions dimensions, final int keyItemId,
                             final Pickable reward) {
+        this(name, position, dimensions, keyItemId, reward, false);
+    }
+
+    /**
+     * Constructs a locked unpickable object which may be needed to win the game.
+     *
+     * @param name         the name of the unpickable object
+     * @param position     the position of the object in the game world
+     * @param dimensions   the dimensions of the unpickable object
+     * @param keyItemId    the ID of the pickable item required to unlock the object
+     * @param reward       the pickable item rewarded after unlocking
+     * @param winCondition whether unlocking the object is needed to win the game
+     */
+    public LockedUnpickable(final String name, final Point2D position,
+                            final Dimensions dimensions, final int keyItemId,
+                            final Pickable reward, final boolean winCondition) {
         super(position, name, dimensions);
         this.keyItemId = keyItemId;
         this.reward = reward;
+        this.winCondition = winCondition;
         this.unlocked = false;
     }
 
@@ -55,11 +75,8 @@ public final class LockedUnpickable extends GameObjectImpl implements Unpickable
      */
     @Override
     public void onAction(final Player player) {
-        if (player.getInventory().getItems().stream()
-                  .map(Pickable::getId)
-                  .anyMatch(id -> id.equals(this.keyItemId))
-            && player.getInventory().getItems().stream()
-                  .noneMatch(item -> item.equals(this.reward))) {
+        if (player.getInventory().containsId(this.keyItemId)
+            && !player.getInventory().getItems().contains(this.reward)) {
             this.unlocked = true;
             if (this.reward != null) {
                 player.getInventory().addItems(this.reward);
@@ -76,4 +93,30 @@ public final class LockedUnpickable extends GameObjectImpl implements Unpickable
     public boolean isUnlocked() {
         return this.unlocked;
     }
+
+    /**
+     * Checks if unlocking the item is needed to win the game.
+     *
+     * @return {@code true} if the item is a win condition, {@code false} otherwise.
+     */
+    @Override
+    public boolean isWinCondition() {
+        return this.winCondition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pickable> getReward() {
+        return Optional.ofNullable(this.reward);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreUnlocked(final boolean unlocked) {
+        this.unlocked = unlocked;
+    }
 }
@@ -1,5 +1,7 @@
 package mindescape.model.world.items.interactable.impl;
 
+import java.util.Optional;
+
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.model.world.core.impl.GameObjectImpl;
@@ -68,4 +70,20 @@ public class UnpickableImpl extends GameObjectImpl implements Unpickable {
     public boolean isUnlocked() {
         return this.unlocked; 
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pickable> getReward() {
+        return Optional.ofNullable(this.reward);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restoreUnlocked(final boolean unlocked) {
+        this.unlocked = unlocked;
+    }
 }
@@ -1,5 +1,7 @@
 package mindescape.model.world.items.interactable.impl;
 
+import java.util.Optional;
+
 import mindescape.model.enigma.api.Enigma;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.Point2D;
@@ -81,4 +83,12 @@ public class UnpickableWithEnigmaImpl extends GameObjectImpl implements Unpickab
     public Enigma getEnigma() {
         return this.enigma; 
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Pickable> getReward() {
+        return Optional.ofNullable(this.reward);
+    }
 }
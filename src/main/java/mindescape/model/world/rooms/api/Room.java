@@ -1,10 +1,14 @@
 package mindescape.model.world.rooms.api;
 
+import java.util.Optional;
 import java.util.Set;
 
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.GameObject;
 import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.SpatialIndex;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.player.api.Player;
 
 /**
  * Represents a room of the map.
@@ -34,6 +38,34 @@ public interface Room {
      */
     Set<GameObject> getGameObjects();
 
+    /**
+     * Returns the objects of the room with the given name, without looking at the other objects.
+     * @param name the name of the objects
+     * @return an unmodifiable view of the objects with that name, empty if there is none
+     */
+    Set<GameObject> getGameObjectsByName(String name);
+
+    /**
+     * Returns the objects of the room of the given type, without looking at the other objects.
+     * @param <T> the type of the objects
+     * @param type the class or interface the objects are instances of, such as {@code Door} or {@code Pickable}
+     * @return an unmodifiable view of the objects of that type, empty if there is none
+     */
+    <T extends GameObject> Set<T> getGameObjectsOfType(Class<T> type);
+
+    /**
+     * Returns the pickable objects of the room with the given id, without looking at the other objects.
+     * @param id the id of the pickables
+     * @return an unmodifiable view of the pickables with that id, empty if there is none
+     */
+    Set<Pickable> getPickablesById(int id);
+
+    /**
+     * Returns the player, if it is in the room.
+     * @return an optional of the player
+     */
+    Optional<Player> getPlayer();
+
     /**
      * Checks if a position is valid based on the bounds of the room.
      * @param pos the position of the object (as the upper left edge)
@@ -60,4 +92,26 @@ public interface Room {
      */
     Dimensions getDimensions();
 
+    /**
+     * Returns the spatial index of the objects of the room that may move, disappear or be interacted with.
+     * Neither the player nor the non interactable objects are indexed,
+     * the latter are found through {@link #findStaticCollision(Point2D, Dimensions)}.
+     * @return the {@link SpatialIndex} of the room
+     */
+    SpatialIndex getSpatialIndex();
+
+    /**
+     * Returns a non interactable object of the room overlapping the given area, if any.
+     * @param position the upper left corner of the area
+     * @param dim the dimensions of the area
+     * @return an optional of the overlapping object
+     */
+    Optional<GameObject> findStaticCollision(Point2D position, Dimensions dim);
+
+    /**
+     * Sets the observer notified when objects are added to or removed from the room.
+     * @param observer the observer to be set
+     */
+    void setObserver(RoomObserver observer);
+
 }
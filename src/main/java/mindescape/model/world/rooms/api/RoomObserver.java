@@ -0,0 +1,23 @@
+package mindescape.model.world.rooms.api;
+
+import mindescape.model.world.core.api.GameObject;
+
+/**
+ * The {@code RoomObserver} interface provides the methods to observe the objects of a room.
+ */
+public interface RoomObserver {
+
+    /**
+     * Called when an object, the player included, has been added to the room.
+     * @param room the room.
+     * @param gameObject the added object.
+     */
+    void onObjectAdded(Room room, GameObject gameObject);
+
+    /**
+     * Called when an object, the player included, has been removed from the room.
+     * @param room the room.
+     * @param gameObject the removed object.
+     */
+    void onObjectRemoved(Room room, GameObject gameObject);
+}
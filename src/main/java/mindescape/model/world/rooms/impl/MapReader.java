@@ -4,18 +4,41 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.tiledreader.TiledReader;
 import org.tiledreader.TiledResource;
 
 /**
  * TiledReader implentation which works for both ide and jar.
+ * Use {@link TiledMapRepository} to read the rooms, so that every file is parsed only once.
  */
 public final class MapReader extends TiledReader {
 
-    private final Map<String, TiledResource> resources = new HashMap<>();
+    private final TiledResourceCache resources;
+
+    /**
+     * Constructs a reader with its own resource cache.
+     */
+    public MapReader() {
+        this(new TiledResourceCache());
+    }
+
+    /**
+     * Constructs a reader sharing the resources already parsed by other readers.
+     * @param resources the shared cache
+     */
+    MapReader(final TiledResourceCache resources) {
+        super();
+        this.resources = resources;
+    }
+
+    /**
+     * Returns how many tileset files have been parsed by the readers sharing this reader's cache.
+     * @return the number of parsed tilesets.
+     */
+    public int getTilesetParseCount() {
+        return resources.getTilesetParseCount();
+    }
 
     @Override
     public String getCanonicalPath(final String path) {
@@ -23,7 +23,7 @@ public final class ObjectsExtractor {
      */
     Set<GameObject> extractfrom(final String roomPath) {
         final Set<GameObject> gameObjects = new HashSet<>();
-        final TiledMap map = new MapReader().getMap(roomPath);
+        final TiledMap map = TiledMapRepository.getInstance().getMap(roomPath);
         final List<TiledObjectLayer> layers = getObjectLayers(map)
             .stream().filter(layer -> !"Doors".equals(layer.getName()))
             .toList();
@@ -44,7 +44,7 @@ public final class ObjectsExtractor {
      */
     Set<GameObject> exstractDoors(final String roomPath, final Set<Room> rooms) {
         final Set<GameObject> doors = new HashSet<>();
-        final TiledMap map = new MapReader().getMap(roomPath);
+        final TiledMap map = TiledMapRepository.getInstance().getMap(roomPath);
         final List<TiledObjectLayer> doorLayers = getObjectLayers(map)
             .stream().filter(layer -> "Doors".equals(layer.getName()))
             .toList();
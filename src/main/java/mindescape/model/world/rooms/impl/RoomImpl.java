@@ -6,18 +6,28 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.tiledreader.TiledMap;
 
 import com.google.common.io.Files;
 
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.model.executor.impl.ManagedExecutorImpl;
 import mindescape.model.world.core.api.Dimensions;
 import mindescape.model.world.core.api.GameObject;
 import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.SpatialIndex;
+import mindescape.model.world.core.impl.StaticCollisionMask;
+import mindescape.model.world.core.impl.UniformGrid;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.noninteractable.api.NonInteractable;
 import mindescape.model.world.player.api.Player;
 import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.api.RoomObserver;
 
 /**
  * This class implements {@link Room}.
@@ -29,13 +39,23 @@ public final class RoomImpl implements Room, Serializable {
     private final Set<GameObject> gameObjects = new HashSet<>();
     private final String name;
     private final String source;
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The index is rebuilt lazily")
+    private transient SpatialIndex spatialIndex;
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The index is rebuilt lazily")
+    private transient SpatialIndex staticIndex;
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The mask is rebuilt lazily")
+    private transient StaticCollisionMask staticMask;
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The index is rebuilt lazily")
+    private transient RoomObjectIndex objectIndex;
+    @SuppressFBWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "The world sets it again after loading")
+    private transient RoomObserver observer;
 
     /**
      * Constructor of the class.
      * @param roomFilePath path to the rosom file
      */
     public RoomImpl(final String roomFilePath) {
-        final TiledMap room = new MapReader().getMap(roomFilePath);
+        final TiledMap room = TiledMapRepository.getInstance().getMap(roomFilePath);
         this.dimensions = new Dimensions(room.getWidth() * Dimensions.TILE.width(), room.getHeight() * Dimensions.TILE.height());
         this.name = Files.getNameWithoutExtension(roomFilePath);
         this.source = roomFilePath;
@@ -46,7 +66,7 @@ public final class RoomImpl implements Room, Serializable {
      */
     @Override
     public boolean isPlayerPresent() {
-        return gameObjects.stream().anyMatch(x -> x instanceof Player);
+        return getPlayer().isPresent();
     }
 
     /**
@@ -55,7 +75,14 @@ public final class RoomImpl implements Room, Serializable {
     @Override
     public void addGameObject(final GameObject gameObject) {
         if (gameObject.getPosition() != null && isPositionValid(gameObject.getPosition(), gameObject.getDimensions())) {
-            gameObjects.add(gameObject);
+            // the indexes are built before the object is added, or the build would index it twice
+            buildIndexes();
+            if (gameObjects.add(gameObject)) {
+                index(gameObject);
+                if (observer != null) {
+                    observer.onObjectAdded(this, gameObject);
+                }
+            }
         }
     }
 
@@ -64,7 +91,19 @@ public final class RoomImpl implements Room, Serializable {
      */
     @Override
     public void removeGameObject(final GameObject gameObject) {
-        gameObjects.remove(gameObject);
+        buildIndexes();
+        if (gameObjects.remove(gameObject)) {
+            objectIndex.remove(gameObject);
+            if (gameObject instanceof NonInteractable) {
+                staticIndex.remove(gameObject);
+                bakeStaticMask();
+            } else if (!(gameObject instanceof Player)) {
+                spatialIndex.remove(gameObject);
+            }
+            if (observer != null) {
+                observer.onObjectRemoved(this, gameObject);
+            }
+        }
     }
 
     /**
@@ -110,22 +149,34 @@ public final class RoomImpl implements Room, Serializable {
      * @return a list of {@link Room} from the files found in resources
      */
     public static List<Room> createRooms() {
-        final ObjectsExtractor objectsExtractor = new ObjectsExtractor();
-        final List<String> files = listRooms();
-        final List<Room> rooms = files.stream()
-            .map(RoomImpl::new)
+        final List<CompletableFuture<Room>> loading = listRooms().stream()
+            .map(path -> CompletableFuture.supplyAsync(() -> loadRoom(path), ManagedExecutorImpl.getInstance()))
+            .toList();
+        final List<Room> rooms = loading.stream()
+            .map(CompletableFuture::join)
             .collect(Collectors.toList());
+        final ObjectsExtractor objectsExtractor = new ObjectsExtractor();
+        final Set<Room> destinations = new HashSet<>(rooms);
         rooms.forEach(room -> {
-            objectsExtractor.extractfrom(room.getSource())
-                .forEach(room::addGameObject);
-        });
-        rooms.forEach(room -> {
-            objectsExtractor.exstractDoors(room.getSource(), rooms.stream().collect(Collectors.toSet()))
+            objectsExtractor.exstractDoors(room.getSource(), destinations)
                 .forEach(room::addGameObject);
         });
         return rooms;
     }
 
+    /**
+     * Parses a room file and fills the room with its objects, except the doors.
+     * Rooms do not depend on each other until their doors are linked, so they are loaded in parallel
+     * on the executor of the game.
+     * @param roomFilePath path to the room file
+     * @return the loaded room
+     */
+    private static Room loadRoom(final String roomFilePath) {
+        final Room room = new RoomImpl(roomFilePath);
+        new ObjectsExtractor().extractfrom(roomFilePath).forEach(room::addGameObject);
+        return room;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -142,6 +193,102 @@ public final class RoomImpl implements Room, Serializable {
         return dimensions;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SpatialIndex getSpatialIndex() {
+        buildIndexes();
+        return spatialIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The baked mask rules out most areas with a few bit tests, the objects are looked up only
+     * when the area touches the static geometry.
+     */
+    @Override
+    public Optional<GameObject> findStaticCollision(final Point2D position, final Dimensions dim) {
+        buildIndexes();
+        if (!staticMask.intersects(position, dim)) {
+            return Optional.empty();
+        }
+        return staticIndex.findFirst(position, dim, obj -> position.x() < obj.getPosition().x() + obj.getDimensions().width()
+            && position.x() + dim.width() > obj.getPosition().x()
+            && position.y() < obj.getPosition().y() + obj.getDimensions().height()
+            && position.y() + dim.height() > obj.getPosition().y());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setObserver(final RoomObserver observer) {
+        this.observer = observer;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<GameObject> getGameObjectsByName(final String name) {
+        buildIndexes();
+        return objectIndex.getByName(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends GameObject> Set<T> getGameObjectsOfType(final Class<T> type) {
+        buildIndexes();
+        return objectIndex.getByType(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Pickable> getPickablesById(final int id) {
+        buildIndexes();
+        return objectIndex.getPickablesById(id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Player> getPlayer() {
+        return getGameObjectsOfType(Player.class).stream().findAny();
+    }
+
+    private void buildIndexes() {
+        if (objectIndex == null) {
+            objectIndex = new RoomObjectIndex();
+            spatialIndex = new UniformGrid(dimensions, Dimensions.TILE.width());
+            staticIndex = new UniformGrid(dimensions, Dimensions.TILE.width());
+            staticMask = new StaticCollisionMask(dimensions);
+            gameObjects.forEach(this::index);
+        }
+    }
+
+    private void index(final GameObject gameObject) {
+        objectIndex.add(gameObject);
+        if (gameObject instanceof NonInteractable) {
+            staticIndex.add(gameObject);
+            staticMask.fill(gameObject.getPosition(), gameObject.getDimensions());
+        } else if (!(gameObject instanceof Player)) {
+            spatialIndex.add(gameObject);
+        }
+    }
+
+    private void bakeStaticMask() {
+        staticMask.clear();
+        gameObjects.stream()
+            .filter(obj -> obj instanceof NonInteractable)
+            .forEach(obj -> staticMask.fill(obj.getPosition(), obj.getDimensions()));
+    }
+
     private static List<String> listRooms() {
         final URL resourceUrl = RoomImpl.class.getClassLoader().getResource("rooms");
         List<String> files = List.of();
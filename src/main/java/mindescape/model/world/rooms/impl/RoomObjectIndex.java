@@ -0,0 +1,88 @@
+package mindescape.model.world.rooms.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.items.interactable.api.Pickable;
+
+/**
+ * Lookup tables of the objects of a room by name, by type and by pickable id.
+ * <p>
+ * An object is indexed under its class and under every superclass and interface of it,
+ * so asking for the objects of an interface such as {@code Door} needs no scan.
+ * </p>
+ */
+final class RoomObjectIndex {
+
+    private static final ClassValue<List<Class<?>>> SUPERTYPES = new ClassValue<>() {
+        @Override
+        protected List<Class<?>> computeValue(final Class<?> type) {
+            final Set<Class<?>> supertypes = new HashSet<>();
+            collect(type, supertypes);
+            return List.copyOf(supertypes);
+        }
+
+        private void collect(final Class<?> type, final Set<Class<?>> supertypes) {
+            if (type != null && type != Object.class && supertypes.add(type)) {
+                collect(type.getSuperclass(), supertypes);
+                for (final Class<?> implemented : type.getInterfaces()) {
+                    collect(implemented, supertypes);
+                }
+            }
+        }
+    };
+
+    private final Map<String, Set<GameObject>> byName = new HashMap<>();
+    private final Map<Class<?>, Set<GameObject>> byType = new HashMap<>();
+    private final Map<Integer, Set<Pickable>> byPickableId = new HashMap<>();
+
+    void add(final GameObject gameObject) {
+        byName.computeIfAbsent(gameObject.getName(), name -> new HashSet<>()).add(gameObject);
+        for (final Class<?> type : SUPERTYPES.get(gameObject.getClass())) {
+            byType.computeIfAbsent(type, t -> new HashSet<>()).add(gameObject);
+        }
+        if (gameObject instanceof Pickable pickable) {
+            byPickableId.computeIfAbsent(pickable.getId(), id -> new HashSet<>()).add(pickable);
+        }
+    }
+
+    void remove(final GameObject gameObject) {
+        removeFrom(byName, gameObject.getName(), gameObject);
+        for (final Class<?> type : SUPERTYPES.get(gameObject.getClass())) {
+            removeFrom(byType, type, gameObject);
+        }
+        if (gameObject instanceof Pickable pickable) {
+            removeFrom(byPickableId, pickable.getId(), pickable);
+        }
+    }
+
+    Set<GameObject> getByName(final String name) {
+        return unmodifiable(byName.get(name));
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends GameObject> Set<T> getByType(final Class<T> type) {
+        // Only instances of type are stored under it
+        return (Set<T>) unmodifiable(byType.get(type));
+    }
+
+    Set<Pickable> getPickablesById(final int id) {
+        return unmodifiable(byPickableId.get(id));
+    }
+
+    private static <K, V> void removeFrom(final Map<K, Set<V>> index, final K key, final V value) {
+        final Set<V> values = index.get(key);
+        if (values != null && values.remove(value) && values.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private static <V> Set<V> unmodifiable(final Set<V> values) {
+        return values == null ? Collections.emptySet() : Collections.unmodifiableSet(values);
+    }
+}
@@ -0,0 +1,70 @@
+package mindescape.model.world.rooms.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.tiledreader.TiledMap;
+
+import com.google.common.base.Suppliers;
+
+/**
+ * Process-wide repository of the parsed room files.
+ * <p>
+ * Every {@code .tmx} file, and every tileset it references, is parsed at most once for the lifetime of
+ * the process, so the model and the view can ask for the same map as many times as they need.
+ * The returned maps are shared and must be treated as read-only.
+ * </p>
+ */
+public final class TiledMapRepository {
+
+    private static final TiledMapRepository INSTANCE = new TiledMapRepository();
+
+    private final Map<String, Supplier<TiledMap>> maps = new ConcurrentHashMap<>();
+    private final TiledResourceCache resources = TiledResourceCache.sharingTilesets();
+    private final AtomicInteger mapParses = new AtomicInteger();
+
+    private TiledMapRepository() {
+    }
+
+    /**
+     * Returns the shared repository.
+     * @return the process-wide {@link TiledMapRepository}.
+     */
+    public static TiledMapRepository getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the map stored in a file, parsing it only the first time it is requested.
+     * Different maps can be parsed at the same time, a thread asking for a map being parsed waits for it.
+     * @param path the path of the {@code .tmx} file.
+     * @return the parsed map.
+     */
+    public TiledMap getMap(final String path) {
+        return maps.computeIfAbsent(path, p -> Suppliers.memoize(() -> parse(p))).get();
+    }
+
+    /**
+     * Returns how many map files have been parsed so far.
+     * @return the number of parsed maps.
+     */
+    public int getMapParseCount() {
+        return mapParses.get();
+    }
+
+    /**
+     * Returns how many tileset files have been parsed so far.
+     * @return the number of parsed tilesets.
+     */
+    public int getTilesetParseCount() {
+        return resources.getTilesetParseCount();
+    }
+
+    private TiledMap parse(final String path) {
+        // TiledReader keeps parsing state, so every parse gets its own reader over the shared cache
+        mapParses.incrementAndGet();
+        return new MapReader(resources).getMap(path);
+    }
+}
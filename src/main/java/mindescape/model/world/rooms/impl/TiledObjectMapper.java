@@ -103,7 +103,8 @@ public final class TiledObjectMapper {
             obj.getName(), new Point2D(obj.getX(), obj.getY()),
             new Dimensions(obj.getWidth(), obj.getHeight()),
             (Integer) obj.getProperties().get("keyItem_id"),
-            rewards.getReward((String) obj.getProperties().get("Reward"))
+            rewards.getReward((String) obj.getProperties().get("Reward")),
+            Boolean.TRUE.equals(obj.getProperties().get("WinCondition"))
         );
     }
 
@@ -0,0 +1,83 @@
+package mindescape.model.world.rooms.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.tiledreader.TiledResource;
+import org.tiledreader.TiledTileset;
+
+import com.google.common.base.Suppliers;
+
+/**
+ * Resource cache that many {@link MapReader}s can share while parsing different maps at the same time.
+ * <p>
+ * Tilesets are shared among the rooms, so a cache built with {@link #sharingTilesets()} parses every
+ * tileset itself, once, through a memoized supplier: a reader that asks for a tileset being parsed
+ * waits for that parse instead of starting another one, and no lock is kept once the call returns.
+ * If a parse fails the next request tries again.
+ * </p>
+ */
+final class TiledResourceCache {
+
+    private static final String TILESET_EXTENSION = ".tsx";
+
+    private final Map<String, TiledResource> resources = new ConcurrentHashMap<>();
+    private final Map<String, Supplier<TiledTileset>> tilesets = new ConcurrentHashMap<>();
+    private final boolean loadTilesets;
+    private final AtomicInteger tilesetParses;
+
+    /**
+     * Constructs a cache that only keeps what its readers put in it.
+     */
+    TiledResourceCache() {
+        this(false, new AtomicInteger());
+    }
+
+    private TiledResourceCache(final boolean loadTilesets, final AtomicInteger tilesetParses) {
+        this.loadTilesets = loadTilesets;
+        this.tilesetParses = tilesetParses;
+    }
+
+    /**
+     * Constructs a cache that parses every tileset once for all the readers sharing it.
+     * @return the new cache
+     */
+    static TiledResourceCache sharingTilesets() {
+        return new TiledResourceCache(true, new AtomicInteger());
+    }
+
+    TiledResource get(final String path) {
+        if (!loadTilesets || !path.endsWith(TILESET_EXTENSION)) {
+            return resources.get(path);
+        }
+        return tilesets.computeIfAbsent(path, p -> Suppliers.memoize(() -> parseTileset(p))).get();
+    }
+
+    void put(final String path, final TiledResource resource) {
+        if (resource instanceof TiledTileset) {
+            tilesetParses.incrementAndGet();
+        }
+        resources.put(path, resource);
+    }
+
+    void remove(final String path) {
+        resources.remove(path);
+        tilesets.remove(path);
+    }
+
+    void clear() {
+        resources.clear();
+        tilesets.clear();
+    }
+
+    int getTilesetParseCount() {
+        return tilesetParses.get();
+    }
+
+    private TiledTileset parseTileset(final String path) {
+        // the tileset is parsed by a reader of its own, which counts it as parsed when it caches it
+        return new MapReader(new TiledResourceCache(false, tilesetParses)).getTileset(path);
+    }
+}
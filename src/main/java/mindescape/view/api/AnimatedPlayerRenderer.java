@@ -1,7 +1,6 @@
 package mindescape.view.api;
 
 import java.awt.Graphics;
-import java.util.Map;
 
 import mindescape.model.world.core.api.Point2D;
 
@@ -22,9 +21,9 @@ public interface AnimatedPlayerRenderer {
      * @param g The graphics context
      * @param offset The offset value for rendering
      * @param scaling The scaling factor
-     * @param keys The map of pressed keys
+     * @param inputs The mask of the held inputs
      */
-    void draw(Graphics g, int offset, double scaling, Map<Integer, Boolean> keys);
+    void draw(Graphics g, int offset, double scaling, int inputs);
 }
 
 
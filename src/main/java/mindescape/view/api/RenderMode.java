@@ -0,0 +1,43 @@
+package mindescape.view.api;
+
+import java.util.Locale;
+
+/**
+ * The {@code RenderMode} enum represents how the world screen is drawn.
+ * <ul>
+ *   <li>{@link #PASSIVE} - the loop asks Swing to repaint and the frame is drawn on the EDT</li>
+ *   <li>{@link #ACTIVE} - the loop draws each frame itself on a buffered canvas and flips it</li>
+ * </ul>
+ * The mode is selected with the {@value #PROPERTY} system property.
+ */
+public enum RenderMode {
+    /**
+     * Passive rendering through {@code repaint()}.
+     */
+    PASSIVE,
+    /**
+     * Active rendering through a {@code BufferStrategy}.
+     */
+    ACTIVE;
+
+    /**
+     * The system property used to select the render mode.
+     */
+    public static final String PROPERTY = "mindescape.render";
+
+    /**
+     * Returns the render mode selected by the {@value #PROPERTY} system property,
+     * {@link #PASSIVE} if it is missing or not recognized.
+     *
+     * @return the selected {@link RenderMode}
+     */
+    public static RenderMode fromSystemProperty() {
+        final String value = System.getProperty(PROPERTY, PASSIVE.name());
+        for (final RenderMode mode : values()) {
+            if (mode.name().equals(value.toUpperCase(Locale.ROOT))) {
+                return mode;
+            }
+        }
+        return PASSIVE;
+    }
+}
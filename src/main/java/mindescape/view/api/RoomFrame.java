@@ -0,0 +1,100 @@
+package mindescape.view.api;
+
+import java.awt.Graphics;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.ImageObserver;
+import java.util.Optional;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Read-only handle to a rendered room.
+ * <p>
+ * A frame is never modified after being created: when the room changes the renderer
+ * publishes a new frame with a greater version, so the same frame can be drawn
+ * any number of times without copying it.
+ * </p>
+ */
+public final class RoomFrame {
+
+    private final BufferedImage image;
+    private final long version;
+    private final long baseVersion;
+    private final Rectangle changed;
+
+    /**
+     * Constructor for RoomFrame, the frame takes ownership of the image which must
+     * not be modified afterwards.
+     * @param image the rendered room.
+     * @param version the version of the room this frame was rendered from.
+     */
+    public RoomFrame(final BufferedImage image, final long version) {
+        this(image, version, version, new Rectangle(0, 0, image.getWidth(), image.getHeight()));
+    }
+
+    /**
+     * Constructor for a RoomFrame that differs from another frame only in a region,
+     * the frame takes ownership of the image which must not be modified afterwards.
+     * @param image the rendered room.
+     * @param version the version of the room this frame was rendered from.
+     * @param baseVersion the version of the frame this one has been derived from.
+     * @param changed the region of the image that differs from the base frame.
+     */
+    @SuppressFBWarnings(value = "EI_EXPOSE_REP2", justification = "the image is owned by the frame and never modified")
+    public RoomFrame(final BufferedImage image, final long version, final long baseVersion, final Rectangle changed) {
+        this.image = image;
+        this.version = version;
+        this.baseVersion = baseVersion;
+        this.changed = new Rectangle(changed);
+    }
+
+    /**
+     * Returns the version of the frame, it increases every time the room changes.
+     * @return the version of the frame.
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns the region that differs from an older frame, if this frame has been derived from it.
+     * @param olderVersion the version of the older frame.
+     * @return an optional of the changed region, empty if the whole frame has to be considered changed.
+     */
+    public Optional<Rectangle> getChangedRegion(final long olderVersion) {
+        return olderVersion == this.baseVersion && olderVersion != this.version
+            ? Optional.of(new Rectangle(this.changed))
+            : Optional.empty();
+    }
+
+    /**
+     * Returns the width of the frame.
+     * @return the width in pixels.
+     */
+    public int getWidth() {
+        return this.image.getWidth();
+    }
+
+    /**
+     * Returns the height of the frame.
+     * @return the height in pixels.
+     */
+    public int getHeight() {
+        return this.image.getHeight();
+    }
+
+    /**
+     * Draws the frame scaled to the given rectangle.
+     * @param g the graphics to draw on.
+     * @param x the x coordinate of the destination.
+     * @param y the y coordinate of the destination.
+     * @param width the width of the destination.
+     * @param height the height of the destination.
+     * @param observer the observer to notify, may be null.
+     */
+    public void draw(final Graphics g, final int x, final int y, final int width, final int height,
+            final ImageObserver observer) {
+        g.drawImage(this.image, x, y, width, height, observer);
+    }
+}
@@ -1,7 +1,9 @@
 package mindescape.view.api;
 
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 
+import mindescape.model.world.core.api.RoomChange;
 import mindescape.model.world.rooms.api.Room;
 
 /**
@@ -10,14 +12,27 @@ import mindescape.model.world.rooms.api.Room;
 public interface RoomRenderer {
     /**
      * Getter for the room image.
-     * @return the room image.
+     * @return a copy of the room image.
      */
     BufferedImage getRoomImage();
 
+    /**
+     * Getter for the current room frame, it does not copy the room image.
+     * @return the read-only {@link RoomFrame} of the current room.
+     */
+    RoomFrame getRoomFrame();
+
     /**
      * Updates the room image.
      * @param currentRoom the room to be rendered.
      */
     void updateRoomImage(Room currentRoom);
+
+    /**
+     * Updates the room image after a change of the room.
+     * @param change what has changed in the room.
+     * @return the region of the room image that has changed, in pixels of the room.
+     */
+    Rectangle updateRoom(RoomChange change);
 }
 
@@ -1,9 +1,9 @@
 package mindescape.view.api;
-import java.util.Map;
 
 import javax.swing.JPanel;
 
-import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.core.api.FrameState;
+import mindescape.model.world.core.api.RoomChange;
 
 
 /**
@@ -13,10 +13,12 @@ import mindescape.model.world.rooms.api.Room;
 public interface WorldView {
 
     /**
-     * Updates the view. 
-     * @param currentRoom to be displayed
+     * Updates the view, it can be called from any thread: the snapshot is only handed over to
+     * the thread that paints, which always draws the latest one.
+     * @param state the snapshot published by the model at the end of the last tick
+     * @param alpha how far the frame is from the previous tick, between 0 and 1
      */
-    void draw(Room currentRoom);
+    void draw(FrameState state, double alpha);
 
     /**
      * Returns the panel of the view.
@@ -25,20 +27,23 @@ public interface WorldView {
     JPanel getPanel();
 
     /**
-     * Return a map of which keys are currently being pressed.
-     * @return a Map<Integer, Boolean> containing if a key is pressed or not.
+     * Drains the keyboard events received since the last call, it is called once per tick by the
+     * game loop. A key pressed and released between two calls is reported once.
+     * @return the mask of the {@link mindescape.controller.core.api.UserInput} held now or pressed
+     * since the last call.
      */
-    Map<Integer, Boolean> getKeyState();
+    int pollInput();
 
     /**
-     * Clears the keyboard input map.
+     * Releases all the held keys, it is called by the game loop.
      */
     void clearInput();
 
     /**
-     * Updates the room image.
-     * @param currentRoom the room to be rendered.
+     * Updates the room image after a change, repainting only the changed region.
+     * The room image is changed on the thread that paints it.
+     * @param change what has changed in the room.
      */
-    void updateRoomImage(Room currentRoom);
+    void updateRoom(RoomChange change);
 
 }
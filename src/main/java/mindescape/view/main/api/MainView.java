@@ -29,4 +29,16 @@ public interface MainView {
      */
     void close();
 
+    /**
+     * Shows how much of the game has been saved.
+     *
+     * @param progress the fraction of the save done, from 0 to 1
+     */
+    void showSaveProgress(double progress);
+
+    /**
+     * Tells the player that the game could not be saved.
+     */
+    void saveFailed();
+
 }
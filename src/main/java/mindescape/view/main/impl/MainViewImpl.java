@@ -8,7 +8,9 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.SwingUtilities;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import mindescape.controller.core.api.Controller;
 import mindescape.controller.core.api.KeyMapper;
+import mindescape.controller.core.api.LoopController;
 import mindescape.controller.core.api.UserInput;
 import mindescape.controller.maincontroller.api.MainController;
 import mindescape.view.main.api.MainView;
@@ -26,9 +28,12 @@ public final class MainViewImpl implements MainView {
 
     private static final int WIDTH = 800;
     private static final int HEIGHT = 600;
+    private static final String TITLE = "Mind Escape";
+    private static final int PERCENT = 100;
     private final MainController mainController;
     private JPanel currentPanel;
-    private final JFrame frame = new JFrame("Mind Escape");
+    private boolean saving;
+    private final JFrame frame = new JFrame(TITLE);
     private final Map<Integer, UserInput> keyMapper = KeyMapper.getKeyMap();
     private final Image icon = new ImageIcon(getClass().getClassLoader().getResource("icons/mindescape.png")).getImage();
 
@@ -50,8 +55,10 @@ public final class MainViewImpl implements MainView {
             public void keyPressed(final KeyEvent e) {
                 Objects.requireNonNull(e);
                 final UserInput input = keyMapper.get(e.getKeyCode());
-                if (input != null) {
-                    mainController.getController().handleInput(input);
+                final Controller current = mainController.getController();
+                // a game loop reads the keys from its own view, between two ticks
+                if (input != null && !(current instanceof LoopController)) {
+                    current.handleInput(input);
                 }
             }
         });
@@ -63,20 +70,22 @@ public final class MainViewImpl implements MainView {
 
             @Override
             public void windowClosing(final WindowEvent e) {
+                if (saving) {
+                    return;
+                }
                 if (mainController.getController().canSave()) {
                     final var option = JOptionPane.showConfirmDialog(
                         frame, 
-                        "Do you want to save before exiting?", 
+                        mainController.isAutosaving()
+                            ? "The game has been saved automatically, do you want to save it again before exiting?"
+                            : "Do you want to save before exiting?", 
                         "Save before exiting", 
                         JOptionPane.YES_NO_CANCEL_OPTION
                     );
 
                     if (option == JOptionPane.YES_OPTION) {
-                        try {
-                            mainController.save();
-                        } catch (IllegalStateException exception) {
-                            JOptionPane.showMessageDialog(frame, "An error occurred while saving the game.");
-                        }
+                        saving = true;
+                        mainController.save();
                     } else if (option == JOptionPane.NO_OPTION) {
                         mainController.exit();
                     }
@@ -133,4 +142,22 @@ public final class MainViewImpl implements MainView {
     public void close() {
         this.frame.dispose();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void showSaveProgress(final double progress) {
+        this.frame.setTitle(TITLE + " - saving " + Math.round(progress * PERCENT) + "%");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void saveFailed() {
+        this.saving = false;
+        this.frame.setTitle(TITLE);
+        JOptionPane.showMessageDialog(frame, "An error occurred while saving the game.");
+    }
 }
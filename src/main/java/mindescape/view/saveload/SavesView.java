@@ -1,6 +1,7 @@
 package mindescape.view.saveload;
 
 import mindescape.controller.saveload.api.SavesController;
+import mindescape.model.saveload.util.SaveMetadata;
 import mindescape.view.api.View;
 import mindescape.view.utils.ViewUtils;
 import java.awt.Color;
@@ -8,8 +9,8 @@ import java.awt.Font;
 import java.awt.BorderLayout;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
-import java.io.File;
 import java.text.SimpleDateFormat;
+import java.time.Duration;
 import java.util.List;
 import java.util.Locale;
 import javax.swing.BorderFactory;
@@ -98,27 +99,37 @@ public final class SavesView extends JPanel implements View {
     }
 
     /**
-     * Updates the list of save files displayed in the view.
+     * Updates the list of saves displayed in the view, only their metadata is used.
      *
-     * @param saveFiles the list of save files to display
+     * @param saveSlots the metadata of the saves to display
      */
-    public void updateSaveFiles(final List<File> saveFiles) {
+    public void updateSaveSlots(final List<SaveMetadata> saveSlots) {
         saveListModel.clear();
         final SimpleDateFormat dateFormat = new SimpleDateFormat(DATE_FORMAT, Locale.getDefault());
 
-        if (saveFiles.isEmpty()) {
+        if (saveSlots.isEmpty()) {
             saveListModel.addElement(NO_SAVES_MESSAGE);
             loadButton.setEnabled(false);
         } else {
-            for (final File file : saveFiles) {
-                final String fileName = file.getName().replace(".sav", "");
-                final String lastModified = dateFormat.format(new Date(file.lastModified()));
-                saveListModel.addElement(fileName + " - " + lastModified);
-            }
+            saveListModel.addAll(saveSlots.stream()
+                .map(slot -> describe(slot, dateFormat))
+                .toList());
             loadButton.setEnabled(true);
         }
     }
 
+    private static String describe(final SaveMetadata slot, final SimpleDateFormat dateFormat) {
+        final StringBuilder text = new StringBuilder(slot.playerName());
+        if (!slot.roomName().isEmpty()) {
+            text.append(" - ").append(slot.roomName());
+        }
+        final Duration playTime = slot.playTime();
+        text.append(String.format(Locale.ROOT, " - %dh %02dm", playTime.toHours(), playTime.toMinutesPart()))
+            .append(" - ").append(slot.itemCount()).append(slot.itemCount() == 1 ? " item" : " items")
+            .append(" - ").append(dateFormat.format(new Date(slot.timestamp())));
+        return text.toString();
+    }
+
     private void loadSelectedSave() {
         final int selectedIndex = saveList.getSelectedIndex();
         if (!NO_SAVES_MESSAGE.equals(saveListModel.get(selectedIndex))) {
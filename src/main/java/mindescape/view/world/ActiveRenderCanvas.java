@@ -0,0 +1,87 @@
+package mindescape.view.world;
+
+import java.awt.Canvas;
+import java.awt.Component;
+import java.awt.Graphics;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.util.function.BiConsumer;
+
+/**
+ * Canvas drawn actively from the game loop thread through a {@link BufferStrategy}.
+ * <p>
+ * Swing never paints it: every frame is rendered into the back buffer by {@link #renderFrame()}
+ * and then shown with a page flip (or a blit, if flipping is not available).
+ * </p>
+ */
+final class ActiveRenderCanvas extends Canvas {
+
+    private static final long serialVersionUID = 1L;
+    private static final int BUFFERS = 3;
+
+    private final transient BiConsumer<Graphics, Component> painter;
+    private transient volatile BufferStrategy strategy;
+
+    /**
+     * Constructor for ActiveRenderCanvas.
+     * @param painter the function that draws a frame on the given graphics,
+     *     sized as the given component.
+     */
+    ActiveRenderCanvas(final BiConsumer<Graphics, Component> painter) {
+        this.painter = painter;
+        this.setIgnoreRepaint(true);
+    }
+
+    /**
+     * Renders a frame and shows it, it does nothing if the canvas is not on screen.
+     */
+    void renderFrame() {
+        final BufferStrategy buffers = getStrategy();
+        if (buffers == null) {
+            return;
+        }
+        try {
+            do {
+                do {
+                    final Graphics g = buffers.getDrawGraphics();
+                    try {
+                        g.setColor(getBackground());
+                        g.fillRect(0, 0, getWidth(), getHeight());
+                        painter.accept(g, this);
+                    } finally {
+                        g.dispose();
+                    }
+                } while (buffers.contentsRestored());
+                buffers.show();
+            } while (buffers.contentsLost());
+            Toolkit.getDefaultToolkit().sync();
+        } catch (final IllegalStateException e) {
+            // the canvas has been removed from the screen while drawing
+            this.strategy = null;
+        }
+    }
+
+    @Override
+    public void paint(final Graphics g) {
+        // frames are drawn by the game loop
+    }
+
+    @Override
+    public void update(final Graphics g) {
+        // frames are drawn by the game loop
+    }
+
+    @Override
+    public void removeNotify() {
+        this.strategy = null;
+        super.removeNotify();
+    }
+
+    private BufferStrategy getStrategy() {
+        if (strategy == null && isDisplayable() && getWidth() > 0 && getHeight() > 0) {
+            createBufferStrategy(BUFFERS);
+            strategy = getBufferStrategy();
+        }
+        return strategy;
+    }
+}
@@ -0,0 +1,84 @@
+package mindescape.view.world;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded lock-free queue of timestamped input events, for one producer and one consumer.
+ * <p>
+ * The events are kept in a ring of primitive slots, so neither offering nor draining allocates.
+ * The producer publishes a slot by advancing the tail after writing it, the consumer frees all
+ * the slots it has read by advancing the head once per drain. Only one thread may offer and only
+ * one thread may drain, possibly a different one.
+ * </p>
+ */
+public final class InputEventQueue {
+
+    private final int[] events;
+    private final long[] timestamps;
+    private final int mask;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Constructs an empty queue.
+     * @param capacity how many events can wait to be drained, a power of two
+     * @throws IllegalArgumentException if the capacity is not a positive power of two
+     */
+    public InputEventQueue(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("The capacity must be a power of two: " + capacity);
+        }
+        this.events = new int[capacity];
+        this.timestamps = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Adds an event, it must only be called by the producer.
+     * @param event the event
+     * @param timestamp when the event has happened, in nanoseconds
+     * @return true if the event has been added, false if the queue is full
+     */
+    public boolean offer(final int event, final long timestamp) {
+        final long t = tail.get();
+        if (t - head.get() == events.length) {
+            return false;
+        }
+        final int slot = (int) t & mask;
+        events[slot] = event;
+        timestamps[slot] = timestamp;
+        tail.lazySet(t + 1);
+        return true;
+    }
+
+    /**
+     * Hands all the events added so far to a sink, in order, and removes them.
+     * It must only be called by the consumer.
+     * @param sink what receives the events
+     * @return how many events have been drained
+     */
+    public int drain(final EventSink sink) {
+        final long h = head.get();
+        final long t = tail.get();
+        for (long i = h; i < t; i++) {
+            final int slot = (int) i & mask;
+            sink.accept(events[slot], timestamps[slot]);
+        }
+        head.lazySet(t);
+        return (int) (t - h);
+    }
+
+    /**
+     * Receives the drained events.
+     */
+    @FunctionalInterface
+    public interface EventSink {
+
+        /**
+         * Receives an event.
+         * @param event the event
+         * @param timestamp when the event has happened, in nanoseconds
+         */
+        void accept(int event, long timestamp);
+    }
+}
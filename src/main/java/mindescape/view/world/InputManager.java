@@ -1,8 +1,8 @@
 package mindescape.view.world;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import mindescape.controller.core.api.KeyMapper;
 import mindescape.controller.core.api.UserInput;
@@ -12,16 +12,48 @@ import java.awt.event.KeyListener;
 
 /**
  * Class that manages the input of the of the worldview.
+ * <p>
+ * The event dispatch thread only records timestamped key events in a {@link InputEventQueue},
+ * the game loop drains them once per tick into a mask of {@link UserInput}. The held inputs are
+ * owned by the game loop, so a key pressed and released between two ticks is still seen once,
+ * and clearing the input never races with the keyboard. If the queue ever overflows, the held
+ * inputs are taken again from the keys that are down, so that no key stays stuck, except for the
+ * keys released by clearing the input, which stay released until they are pressed or released again.
+ * </p>
  */
 public final class InputManager implements KeyListener {
-    private final Map<Integer, Boolean> keyState = new HashMap<>();
+
+    private static final int DEFAULT_CAPACITY = 256;
+    private static final UserInput[] INPUTS = UserInput.values();
+
     private final Map<Integer, UserInput> keyMapper = KeyMapper.getKeyMap();
+    private final InputEventQueue queue;
+    private final InputEventQueue.EventSink sink = this::apply;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong drained = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private volatile int down;
+    private long seenDropped;
+    private int held;
+    private int tapped;
+    private int cleared;
+    private long drainTime;
+    private volatile int published;
 
     /**
      * Constructor for InputManager.
      */
     public InputManager() {
-        initializeKeyState();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for InputManager.
+     * @param capacity how many key events can wait for the next tick, a power of two.
+     */
+    InputManager(final int capacity) {
+        this.queue = new InputEventQueue(capacity);
     }
 
     @Override
@@ -39,42 +71,114 @@ public final class InputManager implements KeyListener {
     }
 
     /**
-     * Method that sets the key state to true when a key is pressed.
+     * Method that records that a key has been pressed.
      * @param keyCode that is pressed.
      */
     public void pressedInput(final int keyCode) {
-        if (keyMapper.containsKey(keyCode)) {
-            keyState.put(keyCode, true);
-        }
+        record(keyCode, true);
     }
 
     /**
-     * Method that sets the key state to false when a key is released.
+     * Method that records that a key has been released.
      * @param keyCode that is released.
      */
     public void releasedInput(final int keyCode) {
-        if (keyMapper.containsKey(keyCode)) {
-            keyState.put(keyCode, false);
+        record(keyCode, false);
+    }
+
+    /**
+     * Drains the key events recorded since the last call, it must be called by the game loop.
+     * @return the mask of the inputs held now or pressed since the last call.
+     */
+    public int pollInput() {
+        tapped = 0;
+        drainTime = System.nanoTime();
+        queue.drain(sink);
+        final long lost = dropped.get();
+        if (lost != seenDropped) {
+            seenDropped = lost;
+            held = down & ~cleared;
         }
+        published = held | tapped;
+        return held | tapped;
     }
 
     /**
-     * Method that clears the input.
+     * Method that releases all the held inputs, it must be called by the game loop.
      */
     public void clearInput() {
-        keyState.clear();
+        cleared |= held | tapped;
+        held = 0;
+        tapped = 0;
+        published = 0;
     }
 
     /**
-     * Method that returns the key state.
-     * @return map from integer to boolean (true if the key is pressed, false otherwise).
+     * Returns the inputs seen by the last tick, it can be called from any thread.
+     * @return the mask of the inputs.
      */
-    public Map<Integer, Boolean> getKeyState() {
-        return Collections.unmodifiableMap(keyState);
+    public int getInputs() {
+        return published;
     }
 
-    private void initializeKeyState() {
-        keyMapper.forEach((key, value) -> keyState.put(key, false));
+    /**
+     * Returns how many key events have been handed to the game loop.
+     * @return the number of drained events.
+     */
+    public long getDrainedEvents() {
+        return drained.get();
     }
-}
 
+    /**
+     * Returns how many key events have been lost because too many were waiting for the next tick.
+     * @return the number of dropped events.
+     */
+    public long getDroppedEvents() {
+        return dropped.get();
+    }
+
+    /**
+     * Returns the mean time between a key event and the tick that has seen it.
+     * @return the mean latency, zero if no event has been drained.
+     */
+    public Duration getMeanLatency() {
+        final long events = drained.get();
+        return events == 0 ? Duration.ZERO : Duration.ofNanos(totalLatency.get() / events);
+    }
+
+    /**
+     * Returns the longest time between a key event and the tick that has seen it.
+     * @return the max latency, zero if no event has been drained.
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(maxLatency.get());
+    }
+
+    private void record(final int keyCode, final boolean pressed) {
+        final UserInput input = keyMapper.get(keyCode);
+        if (input == null) {
+            return;
+        }
+        down = pressed ? down | input.getMask() : down & ~input.getMask();
+        if (!queue.offer(input.ordinal() << 1 | (pressed ? 1 : 0), System.nanoTime())) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    private void apply(final int event, final long timestamp) {
+        final int bit = INPUTS[event >>> 1].getMask();
+        cleared &= ~bit;
+        if ((event & 1) == 1) {
+            held |= bit;
+            tapped |= bit;
+        } else {
+            held &= ~bit;
+        }
+        final long latency = Math.max(0, drainTime - timestamp);
+        drained.incrementAndGet();
+        totalLatency.addAndGet(latency);
+        if (latency > maxLatency.get()) {
+            maxLatency.set(latency);
+        }
+    }
+}
@@ -2,14 +2,12 @@ package mindescape.view.world;
 
 import java.awt.Color;
 import java.awt.Graphics;
-import java.awt.event.KeyEvent;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import javax.imageio.ImageIO;
 import javax.swing.Timer;
 
-import mindescape.controller.core.api.KeyMapper;
 import mindescape.controller.core.api.UserInput;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.view.api.AnimatedPlayerRenderer;
@@ -33,14 +31,14 @@ public final class PlayerRendererImpl implements AnimatedPlayerRenderer {
     private static final int UP_POSITION = 2;
     private static final int RIGHT_POSITION = 4;
     private static final int LEFT_POSITION = 6;
+    private static final List<UserInput> DIRECTIONS = List.of(UserInput.UP, UserInput.DOWN, UserInput.RIGHT, UserInput.LEFT);
 
-    private int spriteIndex;
+    private volatile int spriteIndex;
     private final Map<UserInput, List<BufferedImage>> spriteMapper = new EnumMap<>(UserInput.class);
-    private BufferedImage currentSprite;
+    private volatile BufferedImage currentSprite;
     private final Timer timer;
-    private int x;
-    private int y;
-    private final Map<Integer, UserInput> keyMapper = KeyMapper.getKeyMap();
+    private double x;
+    private double y;
 
     /**
      * Constructor for PlayerView, initializing position and loading sprites.
@@ -49,10 +47,8 @@ public final class PlayerRendererImpl implements AnimatedPlayerRenderer {
      */
     public PlayerRendererImpl(final Point2D pos) {
         this.spriteIndex = 0;
-        this.x = (int) pos.x();
-        this.y = (int) pos.y();
-        keyMapper.remove(KeyEvent.VK_I);
-        keyMapper.remove(KeyEvent.VK_E);
+        this.x = pos.x();
+        this.y = pos.y();
         BufferedImage image;
         try (InputStream is = getClass().getClassLoader().getResourceAsStream("playertiles/player.png")) {
             image = ImageIO.read(is);
@@ -88,13 +84,13 @@ public final class PlayerRendererImpl implements AnimatedPlayerRenderer {
 
     @Override
     public void setPosition(final Point2D pos) {
-        x = (int) pos.x();
-        y = (int) pos.y();
+        x = pos.x();
+        y = pos.y();
     }
 
     @Override
-    public void draw(final Graphics g, final int offset, final double scaling, final Map<Integer, Boolean> keys) {
-        setCurrentSprite(keys);
+    public void draw(final Graphics g, final int offset, final double scaling, final int inputs) {
+        setCurrentSprite(inputs);
         g.drawImage(currentSprite, (int) ((x * scaling) + offset),
             (int) (y * scaling),
             (int) (scaling * SPRITE_SIZE),
@@ -102,10 +98,11 @@ public final class PlayerRendererImpl implements AnimatedPlayerRenderer {
             null);
     }
 
-    private void setCurrentSprite(final Map<Integer, Boolean> keys) {
-        for (final Map.Entry<Integer, Boolean> entry : keys.entrySet()) {
-            if (keyMapper.get(entry.getKey()) != null && entry.getValue()) {
-                currentSprite = spriteMapper.get(keyMapper.get(entry.getKey())).get(spriteIndex);
+    private void setCurrentSprite(final int inputs) {
+        for (final UserInput direction : DIRECTIONS) {
+            if (direction.isIn(inputs)) {
+                currentSprite = spriteMapper.get(direction).get(spriteIndex);
+                return;
             }
         }
     }
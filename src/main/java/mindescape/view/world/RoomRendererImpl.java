@@ -1,17 +1,16 @@
 package mindescape.view.world;
 
-import java.awt.Color;
+import java.awt.AlphaComposite;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.Area;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.InvalidPathException;
-import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-
-import javax.imageio.ImageIO;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.tiledreader.TiledMap;
 import org.tiledreader.TiledObject;
@@ -19,24 +18,29 @@ import org.tiledreader.TiledObjectLayer;
 import org.tiledreader.TiledTile;
 import org.tiledreader.TiledTileLayer;
 
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.model.world.core.api.Dimensions;
-import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.RoomChange;
 import mindescape.model.world.rooms.api.Room;
-import mindescape.model.world.rooms.impl.MapReader;
+import mindescape.model.world.rooms.impl.TiledMapRepository;
+import mindescape.view.api.RoomFrame;
 import mindescape.view.api.RoomRenderer;
-import mindescape.view.utils.ImageTransformer;
 
 /**
  * Class that renders the room.
+ * <p>
+ * The room is only read and composed by the thread updating the renderer, the game loop, while
+ * the finished {@link RoomFrame} is published through a volatile field to the painting thread.
+ * </p>
  */
 public final class RoomRendererImpl implements RoomRenderer {
 
-    private static final double ROTATING_ANGLE = -90;
     private static final int TILE_DIMENSION = (int) Dimensions.TILE.width();
-    private BufferedImage roomImage;
-    private final ImageTransformer transformer = new ImageTransformer();
-    private final transient Map<TiledTile, BufferedImage> tilesCache = new HashMap<>();
+    private volatile RoomFrame roomFrame;
+    private long version;
+    private final TilesetAtlas atlas = TilesetAtlas.getInstance();
+    private final Map<String, BufferedImage> backgrounds = new HashMap<>();
+    private final Map<String, ComposedRoom> composed = new HashMap<>();
 
     /**
      * Constructor for RoomRenderer.
@@ -48,100 +52,150 @@ public final class RoomRendererImpl implements RoomRenderer {
 
     @Override
     public BufferedImage getRoomImage() {
-        final BufferedImage copy = new BufferedImage(roomImage.getWidth(),
-            roomImage.getHeight(),
-            roomImage.getType());
+        final BufferedImage copy = new BufferedImage(roomFrame.getWidth(),
+            roomFrame.getHeight(),
+            BufferedImage.TYPE_4BYTE_ABGR);
         final Graphics2D g = copy.createGraphics();
-        g.drawImage(roomImage, 0, 0, null);
+        roomFrame.draw(g, 0, 0, copy.getWidth(), copy.getHeight(), null);
         g.dispose();
         return copy;
     }
 
+    @Override
+    public RoomFrame getRoomFrame() {
+        return roomFrame;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The tile layers of every room are drawn only the first time the room is shown. Afterwards only the
+     * tile objects that appeared or disappeared since the room was last drawn are patched, and if none
+     * did the frame of the last visit is published again.
+     */
     @Override
     public void updateRoomImage(final Room currentRoom) {
-        roomImage = new BufferedImage((int) currentRoom.getDimensions().height(),
-            (int) currentRoom.getDimensions().height(), BufferedImage.TYPE_4BYTE_ABGR);
-        final Graphics2D finalMap = roomImage.createGraphics();
-        final TiledMap map = new MapReader().getMap(currentRoom.getSource());
-        getTileLayers(map).forEach(layer -> drawLayer(layer, finalMap, map));
-        List<TiledObject> tileObjects = getTileObjects(map);
-        tileObjects = tileObjects
-            .stream()
-            .filter(tObj -> {
-                return currentRoom.getGameObjects()
-                    .stream()
-                    .anyMatch(obj -> obj.getName().equals(tObj.getName()));
-            })
-            .toList();
-        tileObjects.forEach(obj -> drawTileObject(obj, finalMap));
-        finalMap.dispose();
+        final TiledMap map = TiledMapRepository.getInstance().getMap(currentRoom.getSource());
+        final Set<TiledObject> visible = getTileObjects(map).stream()
+            .filter(tObj -> !currentRoom.getGameObjectsByName(tObj.getName()).isEmpty())
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        compose(currentRoom, map, visible);
     }
 
-    private void drawTileObject(final TiledObject obj, final Graphics2D g) {
-        final TiledTile tile = obj.getTile();
-        BufferedImage img = getTileImage(tile);
-        img = applyTransformations(img,
-            obj.getTileXFlip(),
-            obj.getTileDFlip());
-        g.drawImage(img, (int) obj.getX(), (int) obj.getY(), null);
+    /**
+     * {@inheritDoc}
+     * When the player stays in the same room only the tile objects named after the added and removed
+     * objects are looked at, without checking the whole room again.
+     */
+    @Override
+    public Rectangle updateRoom(final RoomChange change) {
+        final Room room = change.room();
+        final ComposedRoom previous = composed.get(room.getSource());
+        if (change.entered() || previous == null) {
+            final RoomFrame shown = roomFrame;
+            updateRoomImage(room);
+            return roomFrame == shown ? new Rectangle() : new Rectangle(0, 0, roomFrame.getWidth(), roomFrame.getHeight());
+        }
+        final TiledMap map = TiledMapRepository.getInstance().getMap(room.getSource());
+        final Set<String> removed = change.removed().stream().map(GameObject::getName).collect(Collectors.toSet());
+        final Set<String> added = change.added().stream().map(GameObject::getName).collect(Collectors.toSet());
+        final Set<TiledObject> visible = new LinkedHashSet<>(previous.objects());
+        visible.removeIf(tObj -> removed.contains(tObj.getName())
+            && room.getGameObjectsByName(tObj.getName()).isEmpty());
+        getTileObjects(map).stream()
+            .filter(tObj -> added.contains(tObj.getName()))
+            .forEach(visible::add);
+        return compose(room, map, visible);
+    }
+
+    /**
+     * Returns how many times the tile layers of a room have been drawn.
+     * @return the number of backgrounds drawn so far.
+     */
+    public int getBackgroundBuilds() {
+        return backgrounds.size();
     }
 
-    private BufferedImage applyTransformations(final BufferedImage img, final boolean horizontal, final boolean diagonal) {
-        BufferedImage result = img;
-        if (diagonal) {
-            result = transformer.rotateImage(result, ROTATING_ANGLE);
+    private Rectangle compose(final Room room, final TiledMap map, final Set<TiledObject> visible) {
+        final BufferedImage background = backgrounds.computeIfAbsent(room.getSource(), source -> drawBackground(map));
+        final Rectangle whole = new Rectangle(0, 0, background.getWidth(), background.getHeight());
+        final ComposedRoom previous = composed.get(room.getSource());
+        final RoomFrame shown = roomFrame;
+        if (previous != null && previous.objects().equals(visible)) {
+            roomFrame = previous.frame();
+            return roomFrame == shown ? new Rectangle() : whole;
         }
-        if (horizontal) {
-            result = transformer.flipImageHorizontally(result);
+        version++;
+        if (previous == null) {
+            final BufferedImage roomImage = copyOf(background);
+            final Graphics2D finalMap = roomImage.createGraphics();
+            visible.forEach(obj -> drawTileObject(obj, finalMap));
+            finalMap.dispose();
+            roomFrame = new RoomFrame(roomImage, version);
+        } else {
+            final BufferedImage roomImage = new BufferedImage(background.getWidth(), background.getHeight(),
+                background.getType());
+            final Graphics2D finalMap = roomImage.createGraphics();
+            finalMap.setComposite(AlphaComposite.Src);
+            previous.frame().draw(finalMap, 0, 0, roomImage.getWidth(), roomImage.getHeight(), null);
+            final Rectangle changed = patchObjects(finalMap, previous, visible, background);
+            finalMap.dispose();
+            roomFrame = new RoomFrame(roomImage, version, previous.frame().getVersion(), changed);
         }
-        return result;
+        composed.put(room.getSource(), new ComposedRoom(roomFrame, visible));
+        return previous != null && previous.frame() == shown
+            ? roomFrame.getChangedRegion(shown.getVersion()).orElse(whole)
+            : whole;
     }
 
-    @SuppressFBWarnings(value = "NP_NULL_ON_SOME_PATH_FROM_RETURN_VALUE",
-        justification = "sb gives it on line 142 although is safe")
-    private BufferedImage getTileImage(final TiledTile tile) {
-        try {
-            if (tile.getTileset().getImage() == null) {
-                return getFallbackImage();
-            }
-            final String path = tile.getTileset().getImage().getSource();
-            final Path filePath = Path.of(path);
-            if (filePath == null || filePath.getFileName() == null) {
-                return getFallbackImage();
-            }
-            final String fileName = filePath.getFileName().toString();
-            final InputStream is = WorldViewImpl.class.getClassLoader().getResourceAsStream("tiles/" + fileName);
-            if (is == null) {
-                return getFallbackImage();
-            }
-            final BufferedImage image = ImageIO.read(is);
-            final Point2D pos = getPositionFromId(tile, tile.getTileset().getWidth());
-            return image.getSubimage(
-                (int) pos.x() * TILE_DIMENSION,
-                (int) pos.y() * TILE_DIMENSION,
-                TILE_DIMENSION,
-                TILE_DIMENSION
-            );
-        } catch (IOException | InvalidPathException e) {
-            return getFallbackImage();
+    private BufferedImage drawBackground(final TiledMap map) {
+        final BufferedImage background = new BufferedImage(map.getWidth() * TILE_DIMENSION,
+            map.getHeight() * TILE_DIMENSION, BufferedImage.TYPE_4BYTE_ABGR);
+        final Graphics2D g = background.createGraphics();
+        getTileLayers(map).forEach(layer -> drawLayer(layer, g, map));
+        g.dispose();
+        return background;
+    }
+
+    private Rectangle patchObjects(final Graphics2D g, final ComposedRoom previous, final Set<TiledObject> visible,
+        final BufferedImage background) {
+        final Rectangle room = new Rectangle(0, 0, background.getWidth(), background.getHeight());
+        // Every pixel of a removed or added object is composed again from the background, clipped so
+        // that the objects around it are not blended twice where they were already drawn
+        final Area dirty = new Area();
+        previous.objects().stream()
+            .filter(obj -> !visible.contains(obj))
+            .forEach(obj -> dirty.add(new Area(bounds(obj).intersection(room))));
+        visible.stream()
+            .filter(obj -> !previous.objects().contains(obj))
+            .forEach(obj -> dirty.add(new Area(bounds(obj).intersection(room))));
+        if (dirty.isEmpty()) {
+            return new Rectangle();
         }
+        final Rectangle changed = dirty.getBounds();
+        g.setClip(dirty);
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(background.getSubimage(changed.x, changed.y, changed.width, changed.height), changed.x, changed.y, null);
+        g.setComposite(AlphaComposite.SrcOver);
+        visible.stream()
+            .filter(obj -> dirty.intersects(bounds(obj)))
+            .forEach(obj -> drawTileObject(obj, g));
+        g.setClip(null);
+        return changed;
     }
 
-    private BufferedImage getFallbackImage() {
-        final BufferedImage image = new BufferedImage(
-                TILE_DIMENSION,
-                TILE_DIMENSION,
-                BufferedImage.TYPE_4BYTE_ABGR
-            );
-        final Graphics2D g = image.createGraphics();
-        g.setColor(Color.WHITE);
-        g.fillRect(0, 0, TILE_DIMENSION, TILE_DIMENSION);
-        g.dispose();
-        return image;
+    private Rectangle bounds(final TiledObject obj) {
+        return new Rectangle((int) obj.getX(), (int) obj.getY(), TILE_DIMENSION, TILE_DIMENSION);
     }
 
-    private Point2D getPositionFromId(final TiledTile tile, final int mapWidth) {
-        return new Point2D(tile.getID() % mapWidth, (double) tile.getID() / mapWidth);
+    private static BufferedImage copyOf(final BufferedImage image) {
+        final BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), image.getType());
+        image.copyData(copy.getRaster());
+        return copy;
+    }
+
+    private void drawTileObject(final TiledObject obj, final Graphics2D g) {
+        final BufferedImage img = atlas.getTile(obj.getTile(), obj.getTileXFlip(), obj.getTileDFlip());
+        g.drawImage(img, (int) obj.getX(), (int) obj.getY(), null);
     }
 
     private List<TiledTileLayer> getTileLayers(final TiledMap map) {
@@ -156,15 +210,10 @@ public final class RoomRendererImpl implements RoomRenderer {
             for (int y = 0; y < map.getHeight(); y++) {
                 final TiledTile tile = layer.getTile(x, y);
                 if (tile != null) {
-                    BufferedImage img = tilesCache.get(tile);
-                    if (img == null) {
-                        img = getTileImage(tile);
-                        img = applyTransformations(img,
-                            layer.getTileHorizontalFlip(x, y),
-                            layer.getTileDiagonalFlip(x, y)
-                        );
-                        tilesCache.put(tile, img);
-                    }
+                    final BufferedImage img = atlas.getTile(tile,
+                        layer.getTileHorizontalFlip(x, y),
+                        layer.getTileDiagonalFlip(x, y)
+                    );
                     g.drawImage(img, x * TILE_DIMENSION, y * TILE_DIMENSION, null);
                 }
             }
@@ -179,5 +228,10 @@ public final class RoomRendererImpl implements RoomRenderer {
             .get();
         return objects.getObjects().stream().filter(obj -> obj.getTile() != null).toList();
     }
-}
 
+    /**
+     * The last frame drawn for a room, with the tile objects drawn on it.
+     */
+    private record ComposedRoom(RoomFrame frame, Set<TiledObject> objects) {
+    }
+}
@@ -0,0 +1,104 @@
+package mindescape.view.world;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+import mindescape.view.api.RoomFrame;
+
+/**
+ * Cache of the room frame scaled to the size of the panel.
+ * <p>
+ * The scaled image is rebuilt only when the room frame version, the scaling factor or the
+ * graphics configuration change, so painting an unchanged room at a steady window size
+ * is a plain image copy. A frame derived from the cached one is patched in place, rescaling
+ * only the region that differs. When a graphics configuration is available the image is compatible
+ * with it, so that it can be cached in video memory.
+ * </p>
+ */
+public final class ScaledFrameCache {
+
+    private BufferedImage scaledImage;
+    private long version = -1;
+    private double scaling;
+    private GraphicsConfiguration configuration;
+    private long rebuilds;
+    private long patches;
+
+    /**
+     * Returns the given frame scaled by the given factor, rebuilding it only if needed.
+     * @param frame the room frame to scale.
+     * @param scaling the scaling factor.
+     * @param gc the graphics configuration of the destination, may be null.
+     * @return the scaled image.
+     */
+    public Image get(final RoomFrame frame, final double scaling, final GraphicsConfiguration gc) {
+        if (scaledImage == null
+            || Double.compare(scaling, this.scaling) != 0
+            || gc != this.configuration) {
+            rebuild(frame, scaling, gc);
+        } else if (frame.getVersion() != this.version) {
+            frame.getChangedRegion(this.version).ifPresentOrElse(
+                changed -> patch(frame, changed),
+                () -> rebuild(frame, scaling, gc)
+            );
+        }
+        return scaledImage;
+    }
+
+    /**
+     * Returns how many times the scaled image has been patched instead of rebuilt.
+     * @return the number of patches.
+     */
+    public long getPatchCount() {
+        return patches;
+    }
+
+    /**
+     * Returns how many times the scaled image has been rebuilt.
+     * @return the number of rebuilds.
+     */
+    public long getRebuildCount() {
+        return rebuilds;
+    }
+
+    private void rebuild(final RoomFrame frame, final double scaling, final GraphicsConfiguration gc) {
+        final int width = Math.max(1, (int) (frame.getWidth() * scaling));
+        final int height = Math.max(1, (int) (frame.getHeight() * scaling));
+        final BufferedImage image = gc == null
+            ? new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB)
+            : gc.createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+        final Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        frame.draw(g, 0, 0, width, height, null);
+        g.dispose();
+        if (scaledImage != null) {
+            scaledImage.flush();
+        }
+        this.scaledImage = image;
+        this.version = frame.getVersion();
+        this.scaling = scaling;
+        this.configuration = gc;
+        this.rebuilds++;
+    }
+
+    private void patch(final RoomFrame frame, final Rectangle changed) {
+        final int x = (int) Math.floor(changed.x * scaling);
+        final int y = (int) Math.floor(changed.y * scaling);
+        final Graphics2D g = scaledImage.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g.setComposite(AlphaComposite.Src);
+        g.clipRect(x, y,
+            (int) Math.ceil((changed.x + changed.width) * scaling) - x,
+            (int) Math.ceil((changed.y + changed.height) * scaling) - y);
+        frame.draw(g, 0, 0, scaledImage.getWidth(), scaledImage.getHeight(), null);
+        g.dispose();
+        this.version = frame.getVersion();
+        this.patches++;
+    }
+}
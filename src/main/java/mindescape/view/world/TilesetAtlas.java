@@ -0,0 +1,153 @@
+package mindescape.view.world;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+
+import org.tiledreader.TiledTile;
+
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.view.utils.ImageTransformer;
+
+/**
+ * Process-wide cache of the tilesets found in {@code resources/tiles}.
+ * <p>
+ * Every tileset image is decoded at most once for the lifetime of the process, and every tile
+ * is sliced out of it (and flipped or rotated if needed) only the first time it is requested.
+ * The returned images are shared, so callers must only draw them and never modify them.
+ * </p>
+ */
+public final class TilesetAtlas {
+
+    private static final TilesetAtlas INSTANCE = new TilesetAtlas();
+    private static final String TILES_FOLDER = "tiles/";
+    private static final double ROTATING_ANGLE = -90;
+    private static final int TILE_DIMENSION = (int) Dimensions.TILE.width();
+
+    private final Map<String, Optional<BufferedImage>> tilesets = new ConcurrentHashMap<>();
+    private final Map<TileKey, BufferedImage> tiles = new ConcurrentHashMap<>();
+    private final ImageTransformer transformer = new ImageTransformer();
+    private final BufferedImage fallbackImage = createFallbackImage();
+    private final AtomicInteger decodes = new AtomicInteger();
+    private final AtomicLong requests = new AtomicLong();
+
+    private TilesetAtlas() {
+    }
+
+    /**
+     * Returns the shared atlas.
+     * @return the process-wide {@link TilesetAtlas}.
+     */
+    public static TilesetAtlas getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the image of a tile, already transformed as requested.
+     * If the tileset image cannot be found or decoded a white tile is returned.
+     * @param tile the tile to get the image of.
+     * @param horizontalFlip whether the tile is flipped horizontally.
+     * @param diagonalFlip whether the tile is flipped diagonally.
+     * @return the image of the tile.
+     */
+    public BufferedImage getTile(final TiledTile tile, final boolean horizontalFlip, final boolean diagonalFlip) {
+        requests.incrementAndGet();
+        final Optional<String> fileName = getFileName(tile);
+        if (fileName.isEmpty()) {
+            return fallbackImage;
+        }
+        return tiles.computeIfAbsent(
+            new TileKey(fileName.get(), tile.getID(), horizontalFlip, diagonalFlip),
+            key -> sliceTile(key, tile.getTileset().getWidth())
+        );
+    }
+
+    /**
+     * Returns how many tileset images have been decoded so far.
+     * @return the number of decoded files.
+     */
+    public int getDecodeCount() {
+        return decodes.get();
+    }
+
+    /**
+     * Returns how many decodes have been avoided thanks to the atlas, that is the number of
+     * tiles handed out without reading the tileset file again.
+     * @return the number of saved decodes.
+     */
+    public long getSavedDecodes() {
+        return requests.get() - decodes.get();
+    }
+
+    private BufferedImage sliceTile(final TileKey key, final int tilesetWidth) {
+        final Optional<BufferedImage> tileset = tilesets.computeIfAbsent(key.source(), this::decode);
+        if (tileset.isEmpty() || tilesetWidth <= 0) {
+            return fallbackImage;
+        }
+        final int x = key.id() % tilesetWidth * TILE_DIMENSION;
+        final int y = key.id() / tilesetWidth * TILE_DIMENSION;
+        final BufferedImage slice = new BufferedImage(TILE_DIMENSION, TILE_DIMENSION, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = slice.createGraphics();
+        g.drawImage(tileset.get().getSubimage(x, y, TILE_DIMENSION, TILE_DIMENSION), 0, 0, null);
+        g.dispose();
+        return applyTransformations(slice, key.horizontalFlip(), key.diagonalFlip());
+    }
+
+    private Optional<BufferedImage> decode(final String fileName) {
+        try (InputStream is = TilesetAtlas.class.getClassLoader().getResourceAsStream(TILES_FOLDER + fileName)) {
+            if (is == null) {
+                return Optional.empty();
+            }
+            decodes.incrementAndGet();
+            return Optional.ofNullable(ImageIO.read(is));
+        } catch (final IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private BufferedImage applyTransformations(final BufferedImage img, final boolean horizontal, final boolean diagonal) {
+        BufferedImage result = img;
+        if (diagonal) {
+            result = transformer.rotateImage(result, ROTATING_ANGLE);
+        }
+        if (horizontal) {
+            result = transformer.flipImageHorizontally(result);
+        }
+        return result;
+    }
+
+    private Optional<String> getFileName(final TiledTile tile) {
+        if (tile.getTileset().getImage() == null) {
+            return Optional.empty();
+        }
+        try {
+            final Path fileName = Path.of(tile.getTileset().getImage().getSource()).getFileName();
+            return fileName == null ? Optional.empty() : Optional.of(fileName.toString());
+        } catch (final InvalidPathException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static BufferedImage createFallbackImage() {
+        final BufferedImage image = new BufferedImage(TILE_DIMENSION, TILE_DIMENSION, BufferedImage.TYPE_4BYTE_ABGR);
+        final Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, TILE_DIMENSION, TILE_DIMENSION);
+        g.dispose();
+        return image;
+    }
+
+    private record TileKey(String source, int id, boolean horizontalFlip, boolean diagonalFlip) {
+    }
+}
@@ -1,17 +1,23 @@
 package mindescape.view.world;
 
+import java.awt.BorderLayout;
+import java.awt.Component;
 import java.awt.Graphics;
-import java.awt.image.BufferedImage;
-import java.util.Map;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import mindescape.model.world.core.api.Dimensions;
-import mindescape.model.world.player.api.Player;
-import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.core.api.FrameState;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.RoomChange;
 import mindescape.view.api.AnimatedPlayerRenderer;
+import mindescape.view.api.RenderMode;
+import mindescape.view.api.RoomFrame;
 import mindescape.view.api.RoomRenderer;
 import mindescape.view.api.WorldView;
-import mindescape.view.utils.ImageTransformer;
 import mindescape.view.utils.ViewUtils;
 
 /**
@@ -21,26 +27,60 @@ public final class WorldViewImpl implements WorldView {
 
     private static final int TILE_DIMENSION = (int) Dimensions.TILE.width();
     private final AnimatedPlayerRenderer player;
-    private final ImageTransformer transformer = new ImageTransformer();
     private final JPanel panel;
+    private final RenderMode mode;
+    private ActiveRenderCanvas canvas;
     private final InputManager inputManager = new InputManager();
     private final RoomRenderer renderer;
+    private final ScaledFrameCache scaledFrame = new ScaledFrameCache();
+    private final AtomicReference<Frame> latest;
+    private Rectangle playerBounds;
+
+    /**
+     * Constructor for WorldViewImpl, the render mode is read from the system properties.
+     *
+     * @param initialState the state of the world to show first
+     */
+    public WorldViewImpl(final FrameState initialState) {
+        this(initialState, RenderMode.fromSystemProperty());
+    }
 
     /**
      * Constructor for WorldViewImpl.
      *
-     * @param currentRoom the current room
+     * @param initialState the state of the world to show first
+     * @param mode how the world is rendered
      */
-    public WorldViewImpl(final Room currentRoom) {
-        this.panel = createPanel();
-        player = new PlayerRendererImpl(getPlayer(currentRoom).getPosition());
-        renderer = new RoomRendererImpl(currentRoom);
+    public WorldViewImpl(final FrameState initialState, final RenderMode mode) {
+        this.mode = mode;
+        this.panel = mode == RenderMode.ACTIVE ? createActivePanel() : createPanel();
+        this.latest = new AtomicReference<>(new Frame(initialState, 0));
+        player = new PlayerRendererImpl(initialState.playerPosition());
+        renderer = new RoomRendererImpl(initialState.room());
     }
 
+    /**
+     * {@inheritDoc}
+     * In {@link RenderMode#ACTIVE} mode the frame is drawn and shown on the calling thread,
+     * otherwise a repaint of the region covering the player, where it was drawn and where it is
+     * now, is requested to Swing; the room itself is only repainted where it changes.
+     * The snapshot replaces the previous one in a single atomic slot, so the painting thread
+     * never waits for the game loop, and it draws the latest snapshot even if some are skipped.
+     */
     @Override
-    public void draw(final Room currentRoom) {
-        player.setPosition(getPlayer(currentRoom).getPosition());
-        this.panel.repaint();
+    public void draw(final FrameState state, final double alpha) {
+        latest.set(new Frame(state, alpha));
+        if (mode == RenderMode.ACTIVE) {
+            this.canvas.renderFrame();
+        } else {
+            final Point2D position = state.interpolate(alpha);
+            final Rectangle current = new Rectangle((int) Math.floor(position.x()), (int) Math.floor(position.y()),
+                TILE_DIMENSION + 1, TILE_DIMENSION + 1);
+            final Rectangle dirty = playerBounds == null ? current : current.union(playerBounds);
+            playerBounds = current;
+            final RoomFrame frame = renderer.getRoomFrame();
+            SwingUtilities.invokeLater(() -> repaintRegion(frame, dirty));
+        }
     }
 
     @SuppressFBWarnings(value = "EI_EXPOSE_REP",
@@ -53,8 +93,8 @@ public final class WorldViewImpl implements WorldView {
 
 
     @Override
-    public Map<Integer, Boolean> getKeyState() {
-        return inputManager.getKeyState();
+    public int pollInput() {
+        return inputManager.pollInput();
     }
 
     @Override
@@ -62,27 +102,39 @@ public final class WorldViewImpl implements WorldView {
         inputManager.clearInput();
     }
 
-    private double getScalingFactor() {
-        final double tileScaledDim = this.panel.getHeight() 
-            / ((double) renderer.getRoomImage().getHeight() / TILE_DIMENSION);
-        return tileScaledDim / TILE_DIMENSION;
+    /**
+     * Returns how many times the scaled room image has been rebuilt, painting an unchanged
+     * room without resizing the window must not increase it.
+     * @return the number of rebuilds of the scaled room image.
+     */
+    public long getScaledFrameRebuilds() {
+        return scaledFrame.getRebuildCount();
     }
 
-    private Player getPlayer(final Room currentRoom) {
-        return (Player) currentRoom.getGameObjects().stream().filter(x -> x instanceof Player).findAny().get();
+    private double getScalingFactor(final RoomFrame frame, final int height) {
+        final double tileScaledDim = height
+            / ((double) frame.getHeight() / TILE_DIMENSION);
+        return tileScaledDim / TILE_DIMENSION;
     }
 
 
+    private void paintWorld(final Graphics g, final Component target) {
+        final Frame snapshot = latest.get();
+        player.setPosition(snapshot.state().interpolate(snapshot.alpha()));
+        final RoomFrame frame = renderer.getRoomFrame();
+        final double scaling = getScalingFactor(frame, target.getHeight());
+        final Image image = scaledFrame.get(frame, scaling, target.getGraphicsConfiguration());
+        final int offset = (target.getWidth() - image.getWidth(null)) / 2;
+        g.drawImage(image, offset, 0, target);
+        player.draw(g, offset, scaling, inputManager.getInputs());
+    }
+
     private JPanel createPanel() {
         final JPanel panel = new JPanel() {
             @Override
             protected void paintComponent(final Graphics g) {
                 super.paintComponent(g);
-                final double scaling = getScalingFactor();
-                final BufferedImage image = transformer.adapt(renderer.getRoomImage(), scaling);
-                final int offset = (this.getWidth() - image.getWidth()) / 2;
-                g.drawImage(image, offset, 0, this);
-                player.draw(g, offset, scaling, inputManager.getKeyState());
+                paintWorld(g, this);
             }
         };
         panel.setFocusable(true);
@@ -92,10 +144,45 @@ public final class WorldViewImpl implements WorldView {
         return panel;
     }
 
+    private JPanel createActivePanel() {
+        final JPanel panel = new JPanel(new BorderLayout());
+        this.canvas = new ActiveRenderCanvas(this::paintWorld);
+        this.canvas.setBackground(ViewUtils.Style.PANEL_COLOR);
+        this.canvas.addKeyListener(inputManager);
+        panel.add(this.canvas, BorderLayout.CENTER);
+        panel.setFocusable(true);
+        panel.requestFocusInWindow();
+        panel.addKeyListener(inputManager);
+        panel.setBackground(ViewUtils.Style.PANEL_COLOR);
+        return panel;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The change is composed on the calling game loop, which is the only thread reading the room,
+     * and the renderer publishes the finished frame, which is never modified afterwards. In active
+     * mode the new frame is shown by the next one drawn, otherwise only the changed region of the
+     * panel is repainted by the event dispatch thread.
+     */
     @Override
-    public void updateRoomImage(final Room currentRoom) {
-        renderer.updateRoomImage(currentRoom);
+    public void updateRoom(final RoomChange change) {
+        final Rectangle changed = renderer.updateRoom(change);
+        if (mode != RenderMode.ACTIVE && !changed.isEmpty()) {
+            final RoomFrame frame = renderer.getRoomFrame();
+            SwingUtilities.invokeLater(() -> repaintRegion(frame, changed));
+        }
     }
 
-}
+    private void repaintRegion(final RoomFrame frame, final Rectangle changed) {
+        final double scaling = getScalingFactor(frame, panel.getHeight());
+        final int offset = (panel.getWidth() - (int) (frame.getWidth() * scaling)) / 2;
+        final int x = (int) Math.floor(changed.x * scaling);
+        final int y = (int) Math.floor(changed.y * scaling);
+        panel.repaint(offset + x, y,
+            (int) Math.ceil((changed.x + changed.width) * scaling) - x,
+            (int) Math.ceil((changed.y + changed.height) * scaling) - y);
+    }
 
+    private record Frame(FrameState state, double alpha) {
+    }
+}
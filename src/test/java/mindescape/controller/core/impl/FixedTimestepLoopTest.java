@@ -0,0 +1,58 @@
+package mindescape.controller.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link FixedTimestepLoop}.
+ */
+final class FixedTimestepLoopTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testTicksFollowElapsedTime() throws InterruptedException {
+        final AtomicInteger ticks = new AtomicInteger();
+        final AtomicInteger frames = new AtomicInteger();
+        final AtomicBoolean validAlpha = new AtomicBoolean(true);
+        final FixedTimestepLoop loop = new FixedTimestepLoop(100, 200, ticks::incrementAndGet, alpha -> {
+            frames.incrementAndGet();
+            if (alpha < 0 || alpha >= 1) {
+                validAlpha.set(false);
+            }
+        });
+        final Thread thread = new Thread(loop);
+        final long start = System.nanoTime();
+        thread.start();
+        Thread.sleep(300);
+        loop.stop();
+        thread.join();
+        final long elapsed = System.nanoTime() - start;
+        assertTrue(ticks.get() > 0);
+        assertTrue(frames.get() > 0);
+        assertTrue(ticks.get() <= elapsed / loop.getTickNanos() + 1);
+        assertTrue(validAlpha.get());
+    }
+
+    @Test
+    void testFailingTickStopsTheLoop() {
+        final FixedTimestepLoop loop = new FixedTimestepLoop(1000, 60, () -> {
+            throw new IllegalStateException("broken tick");
+        }, alpha -> { });
+        assertThrows(IllegalStateException.class, loop::run);
+        assertFalse(loop.isRunning());
+    }
+
+    @Test
+    void testInvalidRates() {
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestepLoop(0, 60, () -> { }, alpha -> { }));
+        assertThrows(IllegalArgumentException.class, () -> new FixedTimestepLoop(60, -1, () -> { }, alpha -> { }));
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
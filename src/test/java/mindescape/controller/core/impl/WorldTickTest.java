@@ -0,0 +1,47 @@
+package mindescape.controller.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import mindescape.controller.core.api.UserInput;
+import mindescape.model.world.api.World;
+
+/**
+ * Test class for {@link WorldTick}.
+ */
+final class WorldTickTest {
+
+    private final List<String> calls = new ArrayList<>();
+    private final List<UserInput> actions = new ArrayList<>();
+    private final WorldTick tick = new WorldTick(recordingWorld(), actions::add);
+
+    @Test
+    void testMovementsBeforeTheInteraction() {
+        tick.run(UserInput.LEFT.getMask() | UserInput.UP.getMask() | UserInput.INTERACT.getMask(), Duration.ZERO);
+        assertEquals(List.of("movePlayer UP", "movePlayer LEFT", "addPlayTime", "flushEvents"), calls);
+        assertEquals(List.of(UserInput.INTERACT), actions);
+    }
+
+    @Test
+    void testInteractionEndsTheInputs() {
+        tick.run(UserInput.INTERACT.getMask() | UserInput.INVENTORY.getMask(), Duration.ZERO);
+        assertEquals(List.of(UserInput.INTERACT), actions);
+        tick.run(UserInput.INVENTORY.getMask(), Duration.ZERO);
+        assertEquals(List.of(UserInput.INTERACT, UserInput.INVENTORY), actions);
+        assertEquals(List.of("addPlayTime", "flushEvents", "addPlayTime", "flushEvents"), calls);
+    }
+
+    private World recordingWorld() {
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] {World.class},
+            (proxy, method, args) -> {
+                calls.add("movePlayer".equals(method.getName()) ? "movePlayer " + args[0] : method.getName());
+                return null;
+            });
+    }
+}
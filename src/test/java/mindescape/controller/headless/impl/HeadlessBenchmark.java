@@ -0,0 +1,51 @@
+package mindescape.controller.headless.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.world.impl.WorldImpl;
+
+/**
+ * Measures how many ticks per second the {@link HeadlessSessionImpl} runs, with a growing number
+ * of worlds in the same process stepped one after the other on a single thread.
+ * Run it with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+final class HeadlessBenchmark {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a benchmark are acceptable
+    private static final int[] WORLDS = {1, 10, 100};
+    private static final int TICKS = 100_000;
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int STRIDE = 15;
+
+    @Test
+    void benchmarkTicks() {
+        System.out.println("worlds | ticks/s per world | ticks/s in total"); // NOPMD
+        for (final int worlds : WORLDS) {
+            final List<HeadlessSessionImpl> sessions = IntStream.range(0, worlds)
+                .mapToObj(i -> new HeadlessSessionImpl(new WorldImpl("bench" + i), new RandomWalkInput(i, STRIDE)))
+                .toList();
+            final int ticks = TICKS / worlds;
+            for (int i = 0; i < Math.max(1, WARMUP_TICKS / worlds); i++) {
+                sessions.forEach(HeadlessSessionImpl::tick);
+            }
+            final long start = System.nanoTime();
+            for (int i = 0; i < ticks; i++) {
+                sessions.forEach(HeadlessSessionImpl::tick);
+            }
+            final double seconds = (System.nanoTime() - start) / 1e9;
+            sessions.forEach(session -> assertEquals(Math.max(1, WARMUP_TICKS / worlds) + ticks, session.getTicks()));
+            System.out.println(String.format(Locale.ROOT, "%6d | %17.0f | %16.0f", // NOPMD
+                worlds, ticks / seconds, (double) ticks * worlds / seconds));
+        }
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
@@ -0,0 +1,55 @@
+package mindescape.controller.headless.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import mindescape.controller.core.impl.FixedTimestepLoop;
+import mindescape.controller.headless.api.HeadlessSession;
+import mindescape.controller.headless.api.InputSource;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.player.api.Player;
+
+/**
+ * Test class for {@link HeadlessSessionImpl}.
+ */
+final class HeadlessSessionImplTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testTicksAdvanceTheWorld() {
+        final HeadlessSession session = new HeadlessSessionImpl(new WorldImpl("test"), InputSource.idle());
+        session.run(FixedTimestepLoop.DEFAULT_TICK_RATE * 2);
+        assertEquals(FixedTimestepLoop.DEFAULT_TICK_RATE * 2, session.getTicks());
+        assertEquals(Duration.ofSeconds(1).dividedBy(FixedTimestepLoop.DEFAULT_TICK_RATE).multipliedBy(session.getTicks()),
+            session.getWorld().getPlayTime());
+        assertEquals(session.getTicks(), session.getWorld().getFrameState().tick());
+    }
+
+    @Test
+    void testRandomWalkIsRepeatable() {
+        final HeadlessSessionImpl first = new HeadlessSessionImpl(new WorldImpl("first"), new RandomWalkInput(42, 20));
+        final HeadlessSessionImpl second = new HeadlessSessionImpl(new WorldImpl("second"), new RandomWalkInput(42, 20));
+        first.run(5_000);
+        second.run(5_000);
+
+        final Player player = first.getWorld().getPlayer();
+        assertEquals(player.getPosition(), second.getWorld().getPlayer().getPosition());
+        assertEquals(player.getCurrentRoom().getName(), second.getWorld().getCurrentRoom().getName());
+        assertTrue(first.getEvents() > 0);
+        assertTrue(inside(player.getPosition(), player.getCurrentRoom().getDimensions()));
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    private static boolean inside(final Point2D position, final Dimensions room) {
+        return position.x() >= 0 && position.y() >= 0
+            && position.x() + Dimensions.TILE.width() <= room.width()
+            && position.y() + Dimensions.TILE.height() <= room.height();
+    }
+}
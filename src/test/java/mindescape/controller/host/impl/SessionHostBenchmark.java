@@ -0,0 +1,52 @@
+package mindescape.controller.host.impl;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import mindescape.controller.core.impl.FixedTimestepLoop;
+import mindescape.controller.headless.impl.RandomWalkInput;
+import mindescape.controller.host.api.HostedSession;
+import mindescape.controller.host.api.SessionHost;
+import mindescape.model.world.impl.WorldImpl;
+
+/**
+ * Measures how many sessions a single loop of the {@link SessionHostImpl} keeps at the default tick
+ * rate, that is how many sessions a core can host. Run it with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+final class SessionHostBenchmark {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a benchmark are acceptable
+    private static final int[] SESSIONS = {500, 1_000, 2_000, 4_000};
+    private static final long MEASURE_MILLIS = 3_000;
+    private static final int STRIDE = 15;
+
+    @Test
+    void benchmarkSessionsPerLoop() throws InterruptedException {
+        System.out.println("sessions | ticks/s per session | target"); // NOPMD
+        for (final int count : SESSIONS) {
+            final SessionHost host = new SessionHostImpl(1, FixedTimestepLoop.DEFAULT_TICK_RATE);
+            final List<HostedSession> sessions = IntStream.range(0, count)
+                .mapToObj(i -> {
+                    final HostedSession session = host.open(new WorldImpl("bench" + i));
+                    final RandomWalkInput walk = new RandomWalkInput(i, STRIDE);
+                    session.setInput(walk.poll(0));
+                    return session;
+                })
+                .toList();
+            Thread.sleep(MEASURE_MILLIS / 3);
+            final long before = sessions.stream().mapToLong(session -> session.getState().tick()).sum();
+            Thread.sleep(MEASURE_MILLIS);
+            final long after = sessions.stream().mapToLong(session -> session.getState().tick()).sum();
+            host.shutdown();
+            System.out.println(String.format(Locale.ROOT, "%8d | %19.1f | %6d", // NOPMD
+                count, (after - before) * 1000.0 / MEASURE_MILLIS / count, FixedTimestepLoop.DEFAULT_TICK_RATE));
+        }
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
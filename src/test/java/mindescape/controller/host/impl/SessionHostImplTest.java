@@ -0,0 +1,118 @@
+package mindescape.controller.host.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import mindescape.controller.core.api.UserInput;
+import mindescape.controller.host.api.HostedSession;
+import mindescape.controller.host.api.SessionHost;
+import mindescape.controller.host.api.SessionState;
+import mindescape.model.world.api.World;
+import mindescape.model.world.impl.WorldImpl;
+
+/**
+ * Test class for {@link SessionHostImpl}.
+ */
+final class SessionHostImplTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    private static final long TIMEOUT_NANOS = 5_000_000_000L;
+
+    private final SessionHost host = new SessionHostImpl(2, 200);
+
+    @AfterEach
+    void tearDown() {
+        host.shutdown();
+    }
+
+    @Test
+    void testSessionsAreTickedIndependently() throws InterruptedException {
+        final List<HostedSession> sessions = IntStream.range(0, 5)
+            .mapToObj(i -> host.open(new WorldImpl("player" + i)))
+            .toList();
+        final SessionState moving = sessions.get(0).getState();
+        final SessionState initial = sessions.get(1).getState();
+        sessions.get(0).setInput(UserInput.RIGHT.getMask() | UserInput.DOWN.getMask());
+        for (final HostedSession session : sessions) {
+            awaitTick(session, 20);
+        }
+        assertEquals(5, host.getSessionCount());
+        assertNotEquals(moving.position(), sessions.get(0).getState().position());
+        assertEquals(initial.position(), sessions.get(1).getState().position());
+        assertEquals(initial.roomName(), sessions.get(1).getState().roomName());
+    }
+
+    @Test
+    void testClosedSessionsStop() throws InterruptedException {
+        final HostedSession session = host.open(new WorldImpl("test"));
+        awaitTick(session, 5);
+        session.close();
+        session.close();
+        assertEquals(0, host.getSessionCount());
+        Thread.sleep(50);
+        final long tick = session.getState().tick();
+        Thread.sleep(50);
+        assertEquals(tick, session.getState().tick());
+    }
+
+    @Test
+    void testFailingSessionDoesNotStopItsLoop() throws InterruptedException {
+        final SessionHost single = new SessionHostImpl(1, 200);
+        try {
+            final HostedSession failing = single.open(failingWorld("failing"));
+            final HostedSession healthy = single.open(new WorldImpl("healthy"));
+            failing.setInput(UserInput.RIGHT.getMask());
+            awaitTick(healthy, 20);
+            assertTrue(failing.getState().failure().isPresent());
+            assertEquals(1, single.getSessionCount());
+            final long tick = healthy.getState().tick();
+            awaitTick(healthy, tick + 5);
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    @Test
+    void testShutdownRejectsNewSessions() {
+        host.shutdown();
+        assertThrows(IllegalStateException.class, () -> host.open(new WorldImpl("test")));
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    /*
+     * A world that throws as soon as the player tries to move.
+     */
+    private static World failingWorld(final String player) {
+        final World world = new WorldImpl(player);
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] {World.class},
+            (proxy, method, args) -> {
+                if ("movePlayer".equals(method.getName())) {
+                    throw new IllegalStateException("broken world");
+                }
+                try {
+                    return method.invoke(world, args);
+                } catch (final InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    private static void awaitTick(final HostedSession session, final long tick) throws InterruptedException {
+        final long deadline = System.nanoTime() + TIMEOUT_NANOS;
+        while (session.getState().tick() < tick && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertTrue(session.getState().tick() >= tick);
+    }
+}
@@ -0,0 +1,84 @@
+package mindescape.controller.worldcontroller.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import mindescape.controller.maincontroller.api.MainController;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.impl.AutosaveImpl;
+import mindescape.model.saveload.util.SaveSnapshot;
+import mindescape.model.world.api.World;
+import mindescape.model.world.impl.WorldImpl;
+
+/**
+ * Test class for {@link WorldController}.
+ */
+final class WorldControllerTest {
+
+    private final CountDownLatch failed = new CountDownLatch(1);
+
+    @BeforeEach
+    void disableAutosave() {
+        System.setProperty(AutosaveImpl.PROPERTY, "0");
+    }
+
+    @AfterEach
+    void restoreAutosave() {
+        System.clearProperty(AutosaveImpl.PROPERTY);
+    }
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testTasksRunAfterAFailingTick() throws Exception {
+        final WorldController controller = new WorldController(failingWorld(new WorldImpl("crash")), mainController());
+        controller.start();
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertEquals("saved", controller.runOnLoop(() -> "saved").get(5, TimeUnit.SECONDS));
+        controller.quit();
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    private World failingWorld(final World world) {
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[] {World.class},
+            (proxy, method, args) -> {
+                if ("addPlayTime".equals(method.getName())) {
+                    failed.countDown();
+                    throw new IllegalStateException("broken world");
+                }
+                try {
+                    return method.invoke(world, args);
+                } catch (final InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+
+    private static MainController mainController() {
+        final SaveService saveService = new SaveService() {
+            @Override
+            public CompletableFuture<File> save(final SaveSnapshot snapshot, final DoubleConsumer progress) {
+                return CompletableFuture.failedFuture(new UnsupportedOperationException());
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+        return (MainController) Proxy.newProxyInstance(MainController.class.getClassLoader(),
+            new Class<?>[] {MainController.class},
+            (proxy, method, args) -> "getSaveService".equals(method.getName()) ? saveService : null);
+    }
+}
@@ -0,0 +1,67 @@
+package mindescape.model.executor.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.executor.api.ManagedExecutor;
+
+/**
+ * Test class for {@link ManagedExecutorImpl}.
+ */
+final class ManagedExecutorImplTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testPlatformThreadsAreReused() throws Exception {
+        final ManagedExecutor executor = new ManagedExecutorImpl(false);
+        for (int i = 0; i < 10; i++) {
+            executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+            Thread.sleep(10);
+        }
+        assertTrue(executor.getCreatedPlatformThreads() < 10);
+        assertEquals(10, executor.getStartedTasks());
+        assertTrue(executor.shutdown(Duration.ofSeconds(5)));
+        assertEquals(0, executor.getActiveThreads());
+    }
+
+    @Test
+    void testThreadsAreCounted() throws Exception {
+        final ManagedExecutor executor = new ManagedExecutorImpl(true);
+        final CountDownLatch running = new CountDownLatch(4);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Future<?>> tasks = IntStream.range(0, 4)
+            .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                running.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }))
+            .toList();
+        assertTrue(running.await(5, TimeUnit.SECONDS));
+        assertEquals(4, executor.getActiveThreads());
+        release.countDown();
+        for (final Future<?> task : tasks) {
+            task.get(5, TimeUnit.SECONDS);
+        }
+        assertEquals(4, executor.getPeakThreads());
+        assertTrue(executor.isVirtual());
+        assertEquals(0, executor.getCreatedPlatformThreads());
+        assertTrue(executor.shutdown(Duration.ofSeconds(5)));
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
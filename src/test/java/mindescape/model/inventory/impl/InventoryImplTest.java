@@ -3,6 +3,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Optional;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -104,4 +109,40 @@ final class InventoryImplTest {
         final Set<Pickable> items = inventory.getItems();  // Dichiarato final
         assertThrows(UnsupportedOperationException.class, () -> items.add(item2));
     }
+
+    /**
+     * Tests the lookups by id of the InventoryImpl class.
+     * Verifies that an id is found as long as one of the items with that id is in the inventory.
+     */
+    @Test
+    void testFindById() {
+        assertFalse(inventory.containsId(0));
+        inventory.addItems(item1);
+        inventory.addItems(item2);
+        assertTrue(inventory.containsId(0));
+        assertTrue(inventory.findById(0).isPresent());
+        inventory.removeItem(item1);
+        assertEquals(Optional.of(item2), inventory.findById(0));
+        inventory.removeItem(item2);
+        assertFalse(inventory.containsId(0));
+        assertTrue(inventory.findById(0).isEmpty());
+    }
+
+    /**
+     * Tests that the lookups by id still work after the inventory has been serialized.
+     * @throws Exception if the inventory cannot be serialized
+     */
+    @Test
+    void testFindByIdAfterLoading() throws Exception {
+        inventory.addItems(item1);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(inventory);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final InventoryImpl loaded = (InventoryImpl) in.readObject();
+            assertTrue(loaded.containsId(0));
+            assertFalse(loaded.containsId(1));
+        }
+    }
 }
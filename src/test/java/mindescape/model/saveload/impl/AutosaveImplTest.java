@@ -0,0 +1,128 @@
+package mindescape.model.saveload.impl;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mindescape.model.saveload.api.Autosave;
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.util.SaveJournal;
+import mindescape.model.saveload.util.SaveSnapshot;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.events.api.WorldEvent;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.impl.PickableImpl;
+
+/**
+ * Test class for {@link AutosaveImpl}.
+ */
+final class AutosaveImplTest {
+
+    @TempDir
+    private Path folder;
+    private final RecordingService service = new RecordingService();
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testFullSaveAtTheFirstTick() {
+        final World world = new WorldImpl("first");
+        final Autosave autosave = new AutosaveImpl(world, service, folder.toFile(), Duration.ofHours(1));
+        autosave.onTick();
+        assertEquals(1, service.saved.size());
+        assertEquals(1, service.saved.getFirst().generation());
+        autosave.onTick();
+        assertEquals(1, service.saved.size());
+        autosave.close();
+    }
+
+    @Test
+    void testMovesAreCoalesced() throws IOException {
+        final World world = new WorldImpl("moves");
+        final Autosave autosave = new AutosaveImpl(world, service, folder.toFile(), Duration.ofHours(1));
+        autosave.onTick();
+        final SaveSnapshot saved = service.saved.getFirst();
+        final Point2D start = world.getPlayer().getPosition();
+
+        world.getPlayer().setPosition(new Point2D(120, 130));
+        autosave.onWorldEvents(List.of(new WorldEvent.PlayerMoved(start, new Point2D(120, 130))));
+        autosave.onTick();
+        assertEquals(start, SaveJournal.replay(saved, folder.toFile()).position());
+        for (int i = 0; i < AutosaveImpl.MOVE_TICKS; i++) {
+            autosave.onTick();
+        }
+        assertEquals(new Point2D(120, 130), SaveJournal.replay(saved, folder.toFile()).position());
+
+        world.getPlayer().setPosition(new Point2D(60, 70));
+        world.getPlayer().getInventory().addItems(new PickableImpl(new Point2D(0, 0), "Wrench", Dimensions.TILE, "", 8));
+        autosave.onWorldEvents(List.of(new WorldEvent.PlayerMoved(new Point2D(120, 130), new Point2D(60, 70)),
+            new WorldEvent.InventoryChanged(world.getPlayer().getInventory())));
+        autosave.onTick();
+        final SaveSnapshot replayed = SaveJournal.replay(saved, folder.toFile());
+        assertEquals(new Point2D(60, 70), replayed.position());
+        assertEquals(List.of(new SaveSnapshot.Item(8, "Wrench")), replayed.items());
+        autosave.close();
+    }
+
+    @Test
+    void testJournalFailureKeepsTheFullSaves() throws IOException {
+        final File notAFolder = Files.createFile(folder.resolve("file")).toFile();
+        final World world = new WorldImpl("failure");
+        final Autosave autosave = new AutosaveImpl(world, service, notAFolder, Duration.ofNanos(1));
+        world.getPlayer().getInventory().addItems(new PickableImpl(new Point2D(0, 0), "Wrench", Dimensions.TILE, "", 8));
+        autosave.onWorldEvents(List.of(new WorldEvent.InventoryChanged(world.getPlayer().getInventory())));
+        assertDoesNotThrow(autosave::onTick);
+        assertEquals(1, service.saved.size());
+        assertDoesNotThrow(autosave::onTick);
+        assertEquals(2, service.saved.size());
+        assertTrue(notAFolder.isFile());
+        autosave.close();
+    }
+
+    @Test
+    void testClosedWhenTheGameIsWon() throws IOException {
+        final World world = new WorldImpl("won");
+        final Autosave autosave = new AutosaveImpl(world, service, folder.toFile(), Duration.ofNanos(1));
+        autosave.onTick();
+        final SaveSnapshot saved = service.saved.getFirst();
+        world.getPlayer().getInventory().addItems(new PickableImpl(new Point2D(0, 0), "Wrench", Dimensions.TILE, "", 8));
+        autosave.onWorldEvents(List.of(new WorldEvent.InventoryChanged(world.getPlayer().getInventory()),
+            new WorldEvent.GameWon()));
+        assertEquals(List.of(new SaveSnapshot.Item(8, "Wrench")), SaveJournal.replay(saved, folder.toFile()).items());
+        autosave.onTick();
+        autosave.onWorldEvents(List.of(new WorldEvent.InventoryChanged(world.getPlayer().getInventory())));
+        autosave.onTick();
+        assertEquals(1, service.saved.size());
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    private static final class RecordingService implements SaveService {
+
+        private final List<SaveSnapshot> saved = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<File> save(final SaveSnapshot snapshot, final DoubleConsumer progress) {
+            saved.add(snapshot);
+            return CompletableFuture.completedFuture(new File(snapshot.playerName() + ".sav"));
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package mindescape.model.saveload.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mindescape.model.saveload.api.SaveService;
+import mindescape.model.saveload.util.CompactSaveFormat;
+import mindescape.model.saveload.util.SaveIndex;
+import mindescape.model.saveload.util.SaveSnapshot;
+import mindescape.model.world.core.api.Point2D;
+
+/**
+ * Test class for {@link SaveServiceImpl}.
+ */
+final class SaveServiceImplTest {
+
+    @TempDir
+    private Path folder;
+    private SaveService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testSaveReplacesThePreviousOne() throws Exception {
+        service = new SaveServiceImpl(folder.toFile());
+        final Path target = folder.resolve("test.sav");
+        Files.write(target, new byte[] {1, 2, 3});
+        final List<Double> progress = new ArrayList<>();
+
+        final File saved = service.save(snapshot("bedroom"), progress::add).get(5, TimeUnit.SECONDS);
+
+        assertEquals(target.toFile(), saved);
+        final byte[] bytes = Files.readAllBytes(target);
+        assertEquals(CompactSaveFormat.MAGIC, (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16
+            | (bytes[2] & 0xFF) << 8 | bytes[3] & 0xFF);
+        assertEquals(1.0, progress.get(progress.size() - 1).doubleValue());
+        for (int i = 1; i < progress.size(); i++) {
+            assertTrue(progress.get(i) >= progress.get(i - 1));
+        }
+        assertEquals(Set.of(target, folder.resolve(SaveIndex.FILE_NAME)), Set.copyOf(listFolder()));
+    }
+
+    @Test
+    void testFailedSaveKeepsThePreviousOne() throws IOException {
+        service = new SaveServiceImpl(folder.toFile());
+        final Path target = folder.resolve("test.sav");
+        final byte[] previous = {1, 2, 3};
+        Files.write(target, previous);
+
+        final String tooLong = "x".repeat(70_000);
+        assertThrows(ExecutionException.class,
+            () -> service.save(snapshot(tooLong), progress -> { }).get(5, TimeUnit.SECONDS));
+
+        assertArrayEquals(previous, Files.readAllBytes(target));
+        assertEquals(List.of(target), listFolder());
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    private static SaveSnapshot snapshot(final String roomName) {
+        return new SaveSnapshot("test", roomName, new Point2D(0, 0),
+            List.of(new SaveSnapshot.Item(1, "Bed note")),
+            List.of(new SaveSnapshot.RoomState("bedroom", List.of(), List.of())));
+    }
+
+    private List<Path> listFolder() throws IOException {
+        try (var files = Files.list(folder)) {
+            return files.toList();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package mindescape.model.saveload.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.items.interactable.api.Door;
+import mindescape.model.world.items.interactable.api.Pickable;
+import mindescape.model.world.items.interactable.api.Unpickable;
+import mindescape.model.world.items.interactable.impl.UnpickableImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Test class for {@link CompactSaveFormat}.
+ */
+final class CompactSaveFormatTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testMutableStateSurvivesSaving() throws IOException {
+        final World world = new WorldImpl("test");
+        final Player player = world.getPlayer();
+        final Pickable torch = (Pickable) room(world, "office").getGameObjectsByName("Torch").iterator().next();
+        room(world, "office").removeGameObject(torch);
+        player.getInventory().addItems(torch);
+        unpickable(world, "bedroom", "Door").restoreUnlocked(true);
+        player.setPosition(new Point2D(120, 130));
+
+        final byte[] bytes = save(world);
+        assertTrue(bytes.length < 1024);
+        final World loaded = CompactSaveFormat.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+
+        assertEquals("test", loaded.getPlayer().getName());
+        assertEquals("bedroom", loaded.getCurrentRoom().getName());
+        assertEquals(new Point2D(120, 130), loaded.getPlayer().getPosition());
+        assertTrue(loaded.getCurrentRoom().getPlayer().isPresent());
+        assertEquals(Set.of(7), loaded.getPlayer().getInventory().getItems().stream()
+            .map(Pickable::getId)
+            .collect(Collectors.toSet()));
+        assertTrue(room(loaded, "office").getGameObjectsByName("Torch").isEmpty());
+        assertFalse(room(loaded, "canteen").getGameObjectsByName("Wrench").isEmpty());
+        assertTrue(unpickable(loaded, "bedroom", "Door").isUnlocked());
+        assertTrue(room(loaded, "canteen").getGameObjectsOfType(Door.class).stream().anyMatch(door -> !door.isUnlocked()));
+        assertFalse(loaded.hasWon());
+    }
+
+    @Test
+    void testUnlockedWinConditionIsRestored() throws IOException {
+        final World world = new WorldImpl("test");
+        unpickable(world, "final", "Mirror").restoreUnlocked(true);
+        final World loaded = CompactSaveFormat.read(new DataInputStream(new ByteArrayInputStream(save(world))));
+        assertTrue(unpickable(loaded, "final", "Mirror").isUnlocked());
+        assertTrue(loaded.hasWon());
+    }
+
+    @Test
+    void testOpenedUnpickableKeepsItsReward() throws IOException {
+        final World world = new WorldImpl("test");
+        final Unpickable bed = unpickable(world, "bedroom", "Bed");
+        assertEquals(UnpickableImpl.class, bed.getClass());
+        bed.onAction(world.getPlayer());
+        assertTrue(bed.isUnlocked());
+        final World loaded = CompactSaveFormat.read(new DataInputStream(new ByteArrayInputStream(save(world))));
+        final Unpickable loadedBed = unpickable(loaded, "bedroom", "Bed");
+        assertTrue(loadedBed.isUnlocked());
+        assertSame(loadedBed.getReward().get(), loaded.getPlayer().getInventory().getItems().iterator().next());
+        loadedBed.onAction(loaded.getPlayer());
+        assertEquals(1, loaded.getPlayer().getInventory().getItems().size());
+    }
+
+    @Test
+    void testUnknownVersionIsRejected() throws IOException {
+        final byte[] bytes = save(new WorldImpl("test"));
+        bytes[Integer.BYTES] = (byte) (CompactSaveFormat.VERSION + 1);
+        assertThrows(IOException.class,
+            () -> CompactSaveFormat.read(new DataInputStream(new ByteArrayInputStream(bytes))));
+    }
+
+    @Test
+    void testLegacySavesCanStillBeLoaded(@TempDir final Path folder) throws IOException {
+        final World world = new WorldImpl("legacy");
+        final File file = folder.resolve("legacy.sav").toFile();
+        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
+            oos.writeObject(world.getPlayer());
+            oos.writeObject(world.getRooms());
+        }
+        final World loaded = SaveManager.loadGameStatus(file);
+        assertNotNull(loaded);
+        assertEquals("legacy", loaded.getPlayer().getName());
+        assertEquals(world.getRooms().size(), loaded.getRooms().size());
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    static byte[] save(final World world) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            CompactSaveFormat.write(world, out);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static Room room(final World world, final String name) {
+        return world.getRooms().stream()
+            .filter(room -> name.equals(room.getName()))
+            .findFirst().get();
+    }
+
+    private static Unpickable unpickable(final World world, final String roomName, final String name) {
+        return room(world, roomName).getGameObjectsOfType(Unpickable.class).stream()
+            .filter(obj -> name.equals(obj.getName()))
+            .findFirst().get();
+    }
+}
@@ -0,0 +1,97 @@
+package mindescape.model.saveload.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.world.api.World;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Compares the size of a save and the time to write and read it between the Java serialization
+ * of the player and of the rooms and the {@link CompactSaveFormat}. Run it with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+final class SaveFormatBenchmark {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a benchmark are acceptable
+    private static final int WARMUP = 20;
+    private static final int RUNS = 200;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    @Test
+    void benchmarkSaveAndLoad() throws IOException, ClassNotFoundException {
+        final World world = new WorldImpl("benchmark");
+        final byte[] legacy = saveLegacy(world);
+        final byte[] compact = CompactSaveFormatTest.save(world);
+        assertEquals(world.getPlayer().getName(), loadCompact(compact).getPlayer().getName());
+
+        for (int i = 0; i < WARMUP; i++) {
+            saveLegacy(world);
+            loadLegacy(legacy);
+            CompactSaveFormatTest.save(world);
+            loadCompact(compact);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            saveLegacy(world);
+        }
+        final long legacySave = (System.nanoTime() - start) / RUNS;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            loadLegacy(legacy);
+        }
+        final long legacyLoad = (System.nanoTime() - start) / RUNS;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            CompactSaveFormatTest.save(world);
+        }
+        final long compactSave = (System.nanoTime() - start) / RUNS;
+        start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            loadCompact(compact);
+        }
+        final long compactLoad = (System.nanoTime() - start) / RUNS;
+
+        System.out.println(String.format(Locale.ROOT, // NOPMD
+            "serialization: %d bytes, save %.3f ms, load %.3f ms | compact: %d bytes, save %.3f ms, load %.3f ms",
+            legacy.length, legacySave / NANOS_PER_MILLI, legacyLoad / NANOS_PER_MILLI,
+            compact.length, compactSave / NANOS_PER_MILLI, compactLoad / NANOS_PER_MILLI));
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    private static byte[] saveLegacy(final World world) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(world.getPlayer());
+            oos.writeObject(world.getRooms());
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static World loadLegacy(final byte[] bytes) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            final Player player = (Player) ois.readObject();
+            return new WorldImpl((List<Room>) ois.readObject(), player);
+        }
+    }
+
+    private static World loadCompact(final byte[] bytes) throws IOException {
+        return CompactSaveFormat.read(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+}
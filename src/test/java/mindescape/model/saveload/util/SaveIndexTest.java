@@ -0,0 +1,93 @@
+package mindescape.model.saveload.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mindescape.model.world.core.api.Point2D;
+
+/**
+ * Test class for {@link SaveIndex}.
+ */
+final class SaveIndexTest {
+
+    @TempDir
+    private Path folder;
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testSavesAreListedFromTheIndex() throws IOException {
+        final File first = SaveManager.writeSnapshot(snapshot("first", Duration.ofMinutes(5)), folder.toFile(), progress -> { });
+        SaveManager.writeSnapshot(snapshot("second", Duration.ofMinutes(65)), folder.toFile(), progress -> { });
+        final SaveIndex index = new SaveIndex(folder.toFile());
+
+        final SaveMetadata second = index.list().stream()
+            .filter(slot -> "second.sav".equals(slot.fileName())).findFirst().get();
+        assertEquals("office", second.roomName());
+        assertEquals(Duration.ofMinutes(65), second.playTime());
+        assertEquals(2, second.itemCount());
+
+        index.put(SaveMetadata.of(snapshot("first", Duration.ofMinutes(6)), first, second.timestamp() + 1000));
+        assertEquals(List.of("first.sav", "second.sav"), index.list().stream().map(SaveMetadata::fileName).toList());
+        Files.delete(folder.resolve("second.sav"));
+        assertEquals(List.of("first.sav"), index.list().stream().map(SaveMetadata::fileName).toList());
+        assertEquals(1, indexedSaves());
+        Files.delete(first.toPath());
+        assertTrue(index.list().isEmpty());
+        assertEquals(0, indexedSaves());
+    }
+
+    @Test
+    void testUnindexedSavesAreDescribedOnce() throws IOException {
+        try (OutputStream stream = Files.newOutputStream(folder.resolve("old.sav"));
+            DataOutputStream out = new DataOutputStream(stream)) {
+            CompactSaveFormat.write(snapshot("old", Duration.ofSeconds(30)), out);
+        }
+        Files.write(folder.resolve("broken.sav"), new byte[] {1, 2, 3});
+        final SaveIndex index = new SaveIndex(folder.toFile());
+
+        final List<SaveMetadata> slots = index.list();
+        assertEquals(2, slots.size());
+        assertEquals(2, indexedSaves());
+        final SaveMetadata old = slots.stream().filter(slot -> "old.sav".equals(slot.fileName())).findFirst().get();
+        assertEquals("office", old.roomName());
+        assertEquals(Duration.ofSeconds(30), old.playTime());
+        final SaveMetadata broken = slots.stream().filter(slot -> "broken.sav".equals(slot.fileName())).findFirst().get();
+        assertEquals("broken", broken.playerName());
+        assertEquals("", broken.roomName());
+
+        Files.write(folder.resolve("old.sav"), new byte[] {1, 2, 3});
+        assertEquals(old, new SaveIndex(folder.toFile()).list().stream()
+            .filter(slot -> "old.sav".equals(slot.fileName())).findFirst().get());
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    private int indexedSaves() throws IOException {
+        try (InputStream stream = Files.newInputStream(folder.resolve(SaveIndex.FILE_NAME));
+            DataInputStream in = new DataInputStream(stream)) {
+            assertEquals(SaveIndex.MAGIC, in.readInt());
+            assertEquals(SaveIndex.VERSION, in.readUnsignedByte());
+            return in.readInt();
+        }
+    }
+
+    private static SaveSnapshot snapshot(final String player, final Duration playTime) {
+        return new SaveSnapshot(player, "office", new Point2D(0, 0),
+            List.of(new SaveSnapshot.Item(7, "Torch"), new SaveSnapshot.Item(8, "Wrench")),
+            List.of(new SaveSnapshot.RoomState("office", List.of(), List.of())), 0, playTime);
+    }
+}
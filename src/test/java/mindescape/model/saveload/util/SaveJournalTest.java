@@ -0,0 +1,90 @@
+package mindescape.model.saveload.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.impl.WorldImpl;
+
+/**
+ * Test class for {@link SaveJournal}.
+ */
+final class SaveJournalTest {
+
+    @TempDir
+    private Path folder;
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testReplayOnlyTheGenerationsAfterTheSnapshot() throws IOException {
+        final World world = new WorldImpl("test");
+        try (SaveJournal journal = SaveJournal.open(folder.toFile(), "test")) {
+            journal.append(List.of(new JournalRecord.PickableRemoved("office", 7)));
+            final SaveSnapshot snapshot = journal.rotate(world);
+            assertEquals(1, snapshot.generation());
+            journal.append(List.of(
+                new JournalRecord.PlayerPlaced("office", new Point2D(40, 50)),
+                new JournalRecord.InventorySet(List.of(new SaveSnapshot.Item(8, "Wrench")))
+            ));
+
+            final SaveSnapshot replayed = SaveJournal.replay(snapshot, folder.toFile());
+            assertEquals("office", replayed.roomName());
+            assertEquals(new Point2D(40, 50), replayed.position());
+            assertEquals(List.of(new SaveSnapshot.Item(8, "Wrench")), replayed.items());
+            assertTrue(pickables(replayed, "office").contains(7));
+            assertFalse(pickables(SaveJournal.replay(snapshot.withGeneration(0), folder.toFile()), "office").contains(7));
+
+            SaveJournal.compacted(folder.toFile(), snapshot);
+            assertFalse(new File(folder.toFile(), "test.0.journal").exists());
+            assertTrue(new File(folder.toFile(), "test.1.journal").exists());
+        }
+    }
+
+    @Test
+    void testTornRecordIsIgnored() throws IOException {
+        final SaveSnapshot base = new SaveSnapshot("test", "bedroom", new Point2D(0, 0), List.of(),
+            List.of(new SaveSnapshot.RoomState("bedroom", List.of(), List.of())));
+        try (SaveJournal journal = SaveJournal.open(folder.toFile(), "test")) {
+            journal.append(List.of(new JournalRecord.PlayerPlaced("bedroom", new Point2D(10, 10))));
+            journal.append(List.of(new JournalRecord.PlayerPlaced("bedroom", new Point2D(20, 20))));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(new File(folder.toFile(), "test.0.journal"), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+        assertEquals(new Point2D(10, 10), SaveJournal.replay(base, folder.toFile()).position());
+    }
+
+    @Test
+    void testOpenStartsAfterTheExistingJournals() throws IOException {
+        try (SaveJournal journal = SaveJournal.open(folder.toFile(), "test")) {
+            assertEquals(0, journal.getGeneration());
+            journal.append(List.of(new JournalRecord.PickableRemoved("office", 7)));
+        }
+        try (SaveJournal journal = SaveJournal.open(folder.toFile(), "test")) {
+            assertEquals(1, journal.getGeneration());
+        }
+        assertTrue(SaveJournal.hasJournal(folder.toFile(), "test"));
+        assertFalse(SaveJournal.hasJournal(folder.toFile(), "tes"));
+    }
+    // CHECKSTYLE: MagicNumber ON
+
+    private static List<Integer> pickables(final SaveSnapshot snapshot, final String room) {
+        return snapshot.rooms().stream()
+            .filter(state -> state.name().equals(room))
+            .findFirst()
+            .orElseThrow()
+            .pickables();
+    }
+}
@@ -0,0 +1,66 @@
+package mindescape.model.world.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.world.core.api.CollisionDetector;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+/**
+ * Compares the linear {@link CollisionDetectorImpl} with the {@link GridCollisionDetector}
+ * on rooms with a growing number of objects. Run it with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+final class CollisionDetectorBenchmark {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a benchmark are acceptable
+    private static final int[] OBJECTS = {10, 100, 1_000, 5_000, 10_000};
+    private static final int QUERIES = 200_000;
+    private static final Dimensions SMALL = new Dimensions(2, 2);
+
+    @Test
+    void benchmarkCollisions() {
+        final CollisionDetector linear = new CollisionDetectorImpl();
+        final CollisionDetector grid = new GridCollisionDetector();
+        System.out.println("objects | linear ns/query | grid ns/query"); // NOPMD
+        for (final int objects : OBJECTS) {
+            final Room room = RoomImpl.createRooms().get(0);
+            final Random random = new Random(objects);
+            final double width = room.getDimensions().width() - SMALL.width();
+            final double height = room.getDimensions().height() - SMALL.height();
+            for (int i = 0; i < objects; i++) {
+                room.addGameObject(new GameObjectImpl(
+                    new Point2D(random.nextInt((int) width), random.nextInt((int) height)), "obj" + i, SMALL));
+            }
+            final Point2D[] queries = new Point2D[QUERIES];
+            for (int i = 0; i < QUERIES; i++) {
+                queries[i] = new Point2D(random.nextInt((int) width), random.nextInt((int) height));
+            }
+            int linearHits = 0;
+            int gridHits = 0;
+            final long linearStart = System.nanoTime();
+            for (final Point2D query : queries) {
+                linearHits += linear.collisions(query, Dimensions.TILE, room.getGameObjects()).isPresent() ? 1 : 0;
+            }
+            final long linearTime = System.nanoTime() - linearStart;
+            final long gridStart = System.nanoTime();
+            for (final Point2D query : queries) {
+                gridHits += grid.collisions(query, Dimensions.TILE, room).isPresent() ? 1 : 0;
+            }
+            final long gridTime = System.nanoTime() - gridStart;
+            assertEquals(linearHits, gridHits);
+            System.out.println(String.format(Locale.ROOT, "%7d | %15.1f | %13.1f", // NOPMD
+                room.getGameObjects().size(), (double) linearTime / QUERIES, (double) gridTime / QUERIES));
+        }
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
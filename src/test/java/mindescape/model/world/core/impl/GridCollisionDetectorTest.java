@@ -0,0 +1,58 @@
+package mindescape.model.world.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.world.core.api.CollisionDetector;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+/**
+ * Test class for {@link GridCollisionDetector}.
+ */
+final class GridCollisionDetectorTest {
+
+    private final CollisionDetector linear = new CollisionDetectorImpl();
+    private final CollisionDetector grid = new GridCollisionDetector();
+    private Room bedroom;
+
+    @BeforeEach
+    void setUp() {
+        bedroom = RoomImpl.createRooms().stream()
+            .filter(room -> "bedroom".equals(room.getName()))
+            .findFirst().get();
+    }
+
+    @Test
+    void testSameResultsAsLinearScan() {
+        final Dimensions room = bedroom.getDimensions();
+        for (int x = 0; x < room.width(); x++) {
+            for (int y = 0; y < room.height(); y++) {
+                final Point2D pos = new Point2D(x, y);
+                assertEquals(linear.collisions(pos, Dimensions.TILE, bedroom.getGameObjects()).isPresent(),
+                    grid.collisions(pos, Dimensions.TILE, bedroom).isPresent());
+            }
+        }
+    }
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testIndexFollowsRoomChanges() {
+        final Point2D free = new Point2D(144, 83);
+        assertFalse(grid.collisions(free, Dimensions.TILE, bedroom).isPresent());
+        final GameObject box = new GameObjectImpl(new Point2D(150, 90), "box", Dimensions.TILE);
+        bedroom.addGameObject(box);
+        assertTrue(grid.collisions(free, Dimensions.TILE, bedroom).isPresent());
+        bedroom.removeGameObject(box);
+        assertFalse(grid.collisions(free, Dimensions.TILE, bedroom).isPresent());
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
@@ -0,0 +1,81 @@
+package mindescape.model.world.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.world.core.api.CollisionDetector;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.items.noninteractable.api.NonInteractable;
+import mindescape.model.world.items.noninteractable.impl.NonInteractableImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+/**
+ * Test class for {@link StaticCollisionMask}.
+ */
+final class StaticCollisionMaskTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testFillAndIntersect() {
+        final StaticCollisionMask mask = new StaticCollisionMask(new Dimensions(200, 100));
+        mask.fill(new Point2D(60, 10), new Dimensions(10, 5));
+        assertTrue(mask.intersects(new Point2D(69, 14), new Dimensions(1, 1)));
+        assertTrue(mask.intersects(new Point2D(50, 0), new Dimensions(11, 11)));
+        assertFalse(mask.intersects(new Point2D(70, 10), new Dimensions(16, 16)));
+        assertFalse(mask.intersects(new Point2D(60, 15), new Dimensions(16, 16)));
+        assertFalse(mask.intersects(new Point2D(44, 0), new Dimensions(16, 10)));
+        mask.clear();
+        assertFalse(mask.intersects(new Point2D(0, 0), new Dimensions(200, 100)));
+    }
+
+    @Test
+    void testAreasOutsideTheRoom() {
+        final StaticCollisionMask mask = new StaticCollisionMask(new Dimensions(100, 100));
+        mask.fill(new Point2D(-20, 90), new Dimensions(200, 30));
+        assertTrue(mask.intersects(new Point2D(95, 95), Dimensions.TILE));
+        assertFalse(mask.intersects(new Point2D(0, 120), Dimensions.TILE));
+        assertFalse(mask.intersects(new Point2D(-40, 0), Dimensions.TILE));
+    }
+
+    @Test
+    void testRoomFindsOnlyOverlappingStaticObjects() {
+        final Room bedroom = RoomImpl.createRooms().stream()
+            .filter(room -> "bedroom".equals(room.getName()))
+            .findFirst().get();
+        final Set<GameObject> staticObjects = bedroom.getGameObjects().stream()
+            .filter(obj -> obj instanceof NonInteractable)
+            .collect(Collectors.toSet());
+        final CollisionDetector linear = new CollisionDetectorImpl();
+        for (double x = 0; x < bedroom.getDimensions().width(); x += 0.5) {
+            for (double y = 0; y < bedroom.getDimensions().height(); y += 3.25) {
+                final Point2D pos = new Point2D(x, y);
+                assertEquals(linear.collisions(pos, Dimensions.TILE, staticObjects).isPresent(),
+                    bedroom.findStaticCollision(pos, Dimensions.TILE).isPresent());
+            }
+        }
+    }
+
+    @Test
+    void testRemovedStaticObjectLeavesNoCollider() {
+        final Room bedroom = RoomImpl.createRooms().stream()
+            .filter(room -> "bedroom".equals(room.getName()))
+            .findFirst().get();
+        final Room empty = new RoomImpl(bedroom.getSource());
+        final GameObject wall = new NonInteractableImpl(new Point2D(100, 100), "wall", Dimensions.TILE);
+        empty.addGameObject(wall);
+        assertTrue(empty.findStaticCollision(new Point2D(100, 100), Dimensions.TILE).isPresent());
+        empty.removeGameObject(wall);
+        assertFalse(empty.findStaticCollision(new Point2D(100, 100), Dimensions.TILE).isPresent());
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
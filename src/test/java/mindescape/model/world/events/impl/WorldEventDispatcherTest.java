@@ -0,0 +1,81 @@
+package mindescape.model.world.events.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.inventory.impl.InventoryImpl;
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.impl.GameObjectImpl;
+import mindescape.model.world.events.api.WorldEvent;
+import mindescape.model.world.impl.WorldImpl;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+
+/**
+ * Test class for {@link WorldEventDispatcher}.
+ */
+final class WorldEventDispatcherTest {
+
+    private final List<List<WorldEvent>> batches = new ArrayList<>();
+    private WorldEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new WorldEventDispatcher();
+        dispatcher.setConsumer(events -> batches.add(List.copyOf(events)));
+    }
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testEventsAreCoalesced() {
+        dispatcher.playerMoved(new Point2D(0, 0), new Point2D(1, 0));
+        dispatcher.playerMoved(new Point2D(1, 0), new Point2D(2, 0));
+        final InventoryImpl inventory = new InventoryImpl();
+        dispatcher.inventoryChanged(inventory);
+        dispatcher.inventoryChanged(inventory);
+        final Room room = RoomImpl.createRooms().getFirst();
+        final GameObject box = new GameObjectImpl(new Point2D(20, 20), "box", Dimensions.TILE);
+        dispatcher.publish(new WorldEvent.ObjectAdded(room, box));
+        dispatcher.publish(new WorldEvent.ObjectRemoved(room, box));
+        dispatcher.flush();
+        assertEquals(List.of(List.of(
+            new WorldEvent.PlayerMoved(new Point2D(0, 0), new Point2D(2, 0)),
+            new WorldEvent.InventoryChanged(inventory)
+        )), batches);
+    }
+
+    @Test
+    void testEmptyTicksAreNotDelivered() {
+        dispatcher.flush();
+        dispatcher.publish(new WorldEvent.RoomEntered(RoomImpl.createRooms().getFirst()));
+        dispatcher.flush();
+        dispatcher.flush();
+        assertEquals(1, batches.size());
+        assertTrue(dispatcher.isEmpty());
+    }
+
+    @Test
+    void testWorldPublishesRoomChanges() {
+        final World world = new WorldImpl("test");
+        world.setObserver(events -> batches.add(List.copyOf(events)));
+        final Room room = world.getCurrentRoom();
+        final GameObject removed = room.getGameObjects().stream()
+            .filter(obj -> "Bed".equals(obj.getName()))
+            .findFirst().get();
+        room.removeGameObject(removed);
+        world.flushEvents();
+        assertEquals(1, batches.size());
+        assertEquals(List.of(new WorldEvent.ObjectRemoved(room, removed)), batches.getFirst());
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
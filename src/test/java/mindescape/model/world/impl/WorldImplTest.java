@@ -0,0 +1,100 @@
+package mindescape.model.world.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.world.api.World;
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.FrameState;
+import mindescape.model.world.core.api.Movement;
+import mindescape.model.world.core.api.Point2D;
+import mindescape.model.world.core.api.WorldObserver;
+import mindescape.model.world.events.api.WorldEvent;
+import mindescape.model.world.items.interactable.api.Unpickable;
+import mindescape.model.world.items.interactable.impl.PickableImpl;
+import mindescape.model.world.player.api.Player;
+import mindescape.model.world.rooms.api.Room;
+
+/**
+ * Test class for {@link WorldImpl}.
+ */
+final class WorldImplTest {
+
+    private final List<WorldEvent> events = new ArrayList<>();
+    private World world;
+    private Room finalRoom;
+
+    @BeforeEach
+    void setUp() {
+        world = new WorldImpl("test");
+        world.setObserver(events::addAll);
+        finalRoom = world.getRooms().stream()
+            .filter(room -> "final".equals(room.getName()))
+            .findFirst().get();
+    }
+
+    @Test
+    void testWinConditionIsReadFromTheMap() {
+        assertTrue(finalRoom.getGameObjects().stream()
+            .anyMatch(obj -> "Mirror".equals(obj.getName()) && ((Unpickable) obj).isWinCondition()));
+        assertFalse(world.hasWon());
+    }
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testUnlockingTheMirrorWins() {
+        final Player player = world.getPlayer();
+        player.getCurrentRoom().removeGameObject(player);
+        player.setCurrentRoom(finalRoom);
+        finalRoom.addGameObject(player);
+        player.setPosition(new Point2D(120, 112.5));
+        world.movePlayer(Movement.UP);
+        world.letPlayerInteract();
+        world.flushEvents();
+        assertFalse(world.hasWon());
+        assertTrue(events.stream().noneMatch(event -> event instanceof WorldEvent.GameWon));
+
+        player.getInventory().addItems(new PickableImpl(null, "Hammer", Dimensions.TILE, "An hammer", 5));
+        world.letPlayerInteract();
+        world.flushEvents();
+        assertTrue(world.hasWon());
+        assertTrue(events.stream().anyMatch(event -> event instanceof WorldEvent.ObjectUnlocked));
+        assertTrue(events.stream().anyMatch(event -> event instanceof WorldEvent.GameWon));
+    }
+
+    @Test
+    void testOneFrameStateIsPublishedPerTick() {
+        final List<FrameState> frames = new ArrayList<>();
+        world.setObserver(new WorldObserver() {
+            @Override
+            public void onWorldEvents(final List<WorldEvent> batch) {
+            }
+
+            @Override
+            public void onFrame(final FrameState state) {
+                frames.add(state);
+            }
+        });
+        final Point2D start = world.getPlayer().getPosition();
+        assertEquals(FrameState.still(0, world.getCurrentRoom(), start), world.getFrameState());
+        world.movePlayer(Movement.LEFT);
+        world.movePlayer(Movement.LEFT);
+        world.flushEvents();
+        world.flushEvents();
+        assertEquals(2, frames.size());
+        assertEquals(new FrameState(1, world.getCurrentRoom(), start, world.getPlayer().getPosition()), frames.get(0));
+        assertEquals(FrameState.still(2, world.getCurrentRoom(), world.getPlayer().getPosition()), frames.get(1));
+        assertEquals(frames.get(1), world.getFrameState());
+        assertEquals(new Point2D((start.x() + world.getPlayer().getPosition().x()) / 2, start.y()),
+            frames.get(0).interpolate(0.5));
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
@@ -4,11 +4,14 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
 import mindescape.model.world.core.api.Point2D;
 import mindescape.model.world.core.impl.GameObjectImpl;
+import mindescape.model.world.items.interactable.api.Door;
 import mindescape.model.world.items.interactable.api.Pickable;
 import mindescape.model.world.items.interactable.impl.DoorLockedWithEnigma;
 import mindescape.model.world.items.interactable.impl.PickableImpl;
@@ -60,6 +63,32 @@ final class RoomImplTest {
         assertTrue(bedroom.getGameObjects().stream().anyMatch(x -> x.equals(obj)));
     }
 
+    @Test
+    void testIndexesFollowAddAndRemove() {
+        final Pickable obj = new PickableImpl(new Point2D(0, 0), "dummy", Dimensions.TILE, "", 42);
+        bedroom.addGameObject(obj);
+        assertEquals(Set.of(obj), bedroom.getGameObjectsByName("dummy"));
+        assertEquals(Set.of(obj), bedroom.getPickablesById(42));
+        assertTrue(bedroom.getGameObjectsOfType(Pickable.class).contains(obj));
+        assertEquals(bedroom.getGameObjects().stream().filter(x -> x instanceof Door).count(),
+            bedroom.getGameObjectsOfType(Door.class).size());
+        bedroom.removeGameObject(obj);
+        assertTrue(bedroom.getGameObjectsByName("dummy").isEmpty());
+        assertTrue(bedroom.getPickablesById(42).isEmpty());
+        assertFalse(bedroom.getGameObjectsOfType(Pickable.class).contains(obj));
+        assertTrue(bedroom.getPlayer().isEmpty());
+    }
+
+    @Test
+    void testRemovedObjectLeavesNoCollider() {
+        final Room empty = new RoomImpl(bedroom.getSource());
+        final GameObject box = new GameObjectImpl(new Point2D(100, 100), "box", Dimensions.TILE);
+        empty.addGameObject(box);
+        empty.removeGameObject(box);
+        assertEquals(0, empty.getSpatialIndex().size());
+        assertTrue(empty.getSpatialIndex().findFirst(new Point2D(100, 100), Dimensions.TILE, obj -> true).isEmpty());
+    }
+
     @Test
     void testIsPositionValid() {
         assertFalse(bedroom.isPositionValid(new Point2D(0, -1), Dimensions.TILE));
@@ -0,0 +1,56 @@
+package mindescape.model.world.rooms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.MapReader;
+import mindescape.model.world.rooms.impl.RoomImpl;
+import mindescape.model.world.rooms.impl.RoomNames;
+
+/**
+ * Measures how long it takes to create the rooms of a new game, comparing the parallel cold start
+ * with the time each room would take on its own. Run it with {@code ./gradlew benchmark}.
+ */
+@Tag("benchmark")
+final class RoomLoadingBenchmark {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a benchmark are acceptable
+    private static final int WARM_RUNS = 50;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    @Test
+    void benchmarkStartup() {
+        final long coldStart = System.nanoTime();
+        final List<Room> rooms = RoomImpl.createRooms();
+        final long coldTime = System.nanoTime() - coldStart;
+        assertEquals(RoomNames.values().length, rooms.size());
+
+        long sum = 0;
+        long slowest = 0;
+        for (final Room room : rooms) {
+            final long start = System.nanoTime();
+            new MapReader().getMap(room.getSource());
+            final long time = System.nanoTime() - start;
+            sum += time;
+            slowest = Math.max(slowest, time);
+        }
+
+        final long warmStart = System.nanoTime();
+        for (int i = 0; i < WARM_RUNS; i++) {
+            RoomImpl.createRooms();
+        }
+        final long warmTime = (System.nanoTime() - warmStart) / WARM_RUNS;
+
+        System.out.println(String.format(Locale.ROOT, // NOPMD
+            "cold parallel load: %.1f ms | rooms parsed one by one: %.1f ms, slowest %.1f ms | warm load: %.2f ms",
+            coldTime / NANOS_PER_MILLI, sum / NANOS_PER_MILLI, slowest / NANOS_PER_MILLI, warmTime / NANOS_PER_MILLI));
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
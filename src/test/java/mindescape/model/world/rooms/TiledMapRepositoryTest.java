@@ -0,0 +1,48 @@
+package mindescape.model.world.rooms;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.tiledreader.TiledMap;
+
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+import mindescape.model.world.rooms.impl.RoomNames;
+import mindescape.model.world.rooms.impl.TiledMapRepository;
+
+/**
+ * Test class for {@link TiledMapRepository}.
+ */
+final class TiledMapRepositoryTest {
+
+    private final TiledMapRepository repository = TiledMapRepository.getInstance();
+
+    @Test
+    void testEachFileIsParsedOnce() {
+        final List<Room> rooms = RoomImpl.createRooms();
+        final Map<String, TiledMap> maps = rooms.stream()
+            .map(Room::getSource)
+            .distinct()
+            .collect(Collectors.toMap(Function.identity(), repository::getMap));
+        final int tilesets = repository.getTilesetParseCount();
+        assertEquals(RoomNames.values().length, maps.size());
+        assertEquals(maps.size(), repository.getMapParseCount());
+        assertTrue(tilesets > 0);
+        RoomImpl.createRooms().forEach(room -> assertSame(maps.get(room.getSource()), repository.getMap(room.getSource())));
+        assertEquals(maps.size(), repository.getMapParseCount());
+        assertEquals(tilesets, repository.getTilesetParseCount());
+    }
+
+    @Test
+    void testMapsAreShared() {
+        final String source = RoomImpl.createRooms().getFirst().getSource();
+        assertSame(repository.getMap(source), repository.getMap(source));
+    }
+}
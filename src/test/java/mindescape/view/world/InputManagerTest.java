@@ -0,0 +1,113 @@
+package mindescape.view.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.event.KeyEvent;
+
+import org.junit.jupiter.api.Test;
+
+import mindescape.controller.core.api.UserInput;
+
+/**
+ * Test class for {@link InputManager}.
+ */
+final class InputManagerTest {
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testHeldKeys() {
+        final InputManager input = new InputManager();
+        input.pressedInput(KeyEvent.VK_W);
+        input.pressedInput(KeyEvent.VK_D);
+        input.pressedInput(KeyEvent.VK_Q);
+        final int held = UserInput.UP.getMask() | UserInput.RIGHT.getMask();
+        assertEquals(held, input.pollInput());
+        assertEquals(held, input.pollInput());
+        assertEquals(held, input.getInputs());
+        input.releasedInput(KeyEvent.VK_W);
+        assertEquals(UserInput.RIGHT.getMask(), input.pollInput());
+        assertEquals(3, input.getDrainedEvents());
+    }
+
+    @Test
+    void testTapBetweenTicksIsNotLost() {
+        final InputManager input = new InputManager();
+        input.pressedInput(KeyEvent.VK_E);
+        input.releasedInput(KeyEvent.VK_E);
+        assertTrue(UserInput.INTERACT.isIn(input.pollInput()));
+        assertEquals(0, input.pollInput());
+    }
+
+    @Test
+    void testClearReleasesHeldKeys() {
+        final InputManager input = new InputManager();
+        input.pressedInput(KeyEvent.VK_S);
+        assertTrue(UserInput.DOWN.isIn(input.pollInput()));
+        input.clearInput();
+        assertEquals(0, input.getInputs());
+        assertEquals(0, input.pollInput());
+        input.pressedInput(KeyEvent.VK_S);
+        assertTrue(UserInput.DOWN.isIn(input.pollInput()));
+    }
+
+    @Test
+    void testEventsOverTheCapacityAreDropped() {
+        final InputManager input = new InputManager(4);
+        for (int i = 0; i < 6; i++) {
+            input.pressedInput(KeyEvent.VK_A);
+        }
+        assertEquals(2, input.getDroppedEvents());
+        assertTrue(UserInput.LEFT.isIn(input.pollInput()));
+        for (int round = 0; round < 10; round++) {
+            input.pressedInput(KeyEvent.VK_A);
+            input.releasedInput(KeyEvent.VK_A);
+            input.pressedInput(KeyEvent.VK_D);
+            assertEquals(UserInput.LEFT.getMask() | UserInput.RIGHT.getMask(), input.pollInput());
+            input.releasedInput(KeyEvent.VK_D);
+            assertEquals(0, input.pollInput());
+        }
+        assertEquals(2, input.getDroppedEvents());
+        assertEquals(44, input.getDrainedEvents());
+        for (int i = 0; i < 5; i++) {
+            input.pressedInput(KeyEvent.VK_W);
+        }
+        input.releasedInput(KeyEvent.VK_W);
+        assertEquals(4, input.getDroppedEvents());
+        assertEquals(UserInput.UP.getMask(), input.pollInput());
+        assertEquals(0, input.pollInput());
+        assertThrows(IllegalArgumentException.class, () -> new InputManager(6));
+    }
+
+    @Test
+    void testOverflowDoesNotRestoreClearedKeys() {
+        final InputManager input = new InputManager(4);
+        input.pressedInput(KeyEvent.VK_E);
+        assertTrue(UserInput.INTERACT.isIn(input.pollInput()));
+        input.clearInput();
+        for (int i = 0; i < 5; i++) {
+            input.pressedInput(KeyEvent.VK_W);
+        }
+        assertEquals(1, input.getDroppedEvents());
+        assertEquals(UserInput.UP.getMask(), input.pollInput());
+        assertEquals(UserInput.UP.getMask(), input.pollInput());
+        input.releasedInput(KeyEvent.VK_E);
+        input.pressedInput(KeyEvent.VK_E);
+        assertTrue(UserInput.INTERACT.isIn(input.pollInput()));
+    }
+
+    @Test
+    void testLatencyIsMeasured() throws InterruptedException {
+        final InputManager input = new InputManager();
+        assertEquals(0, input.getMeanLatency().toNanos());
+        input.pressedInput(KeyEvent.VK_W);
+        Thread.sleep(20);
+        input.pollInput();
+        assertTrue(input.getMaxLatency().toMillis() >= 20);
+        assertFalse(input.getMeanLatency().compareTo(input.getMaxLatency()) > 0);
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
@@ -0,0 +1,106 @@
+package mindescape.view.world;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import mindescape.model.world.core.api.Dimensions;
+import mindescape.model.world.core.api.GameObject;
+import mindescape.model.world.core.api.RoomChange;
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+import mindescape.view.api.RoomFrame;
+
+/**
+ * Test class for {@link RoomRendererImpl}.
+ */
+final class RoomRendererImplTest {
+
+    private Room bedroom;
+    private Room office;
+    private RoomRendererImpl renderer;
+
+    @BeforeEach
+    void setUp() {
+        final List<Room> rooms = RoomImpl.createRooms();
+        bedroom = getRoom(rooms, "bedroom");
+        office = getRoom(rooms, "office");
+        renderer = new RoomRendererImpl(bedroom);
+    }
+
+    @Test
+    void testBackgroundsAreDrawnOnce() {
+        final RoomFrame first = renderer.getRoomFrame();
+        renderer.updateRoomImage(office);
+        renderer.updateRoomImage(bedroom);
+        renderer.updateRoomImage(office);
+        assertEquals(2, renderer.getBackgroundBuilds());
+        renderer.updateRoomImage(bedroom);
+        assertSame(first, renderer.getRoomFrame());
+    }
+
+    @Test
+    void testRemovedObjectsArePatched() {
+        renderer.updateRoomImage(office);
+        final RoomFrame before = renderer.getRoomFrame();
+        final GameObject torch = office.getGameObjects().stream()
+            .filter(obj -> "Torch".equals(obj.getName()))
+            .findFirst().get();
+        office.removeGameObject(torch);
+        renderer.updateRoomImage(office);
+        assertNotEquals(before.getVersion(), renderer.getRoomFrame().getVersion());
+        assertEquals(2, renderer.getBackgroundBuilds());
+    }
+
+    @Test
+    void testOnlyTheChangedRegionIsReported() {
+        renderer.updateRoomImage(office);
+        final Set<GameObject> before = new HashSet<>(office.getGameObjects());
+        office.getGameObjects().stream()
+            .filter(obj -> "Torch".equals(obj.getName()))
+            .findFirst()
+            .ifPresent(office::removeGameObject);
+        final Rectangle changed = renderer.updateRoom(RoomChange.between(office, before));
+        assertFalse(changed.isEmpty());
+        assertTrue(changed.width <= Dimensions.TILE.width() && changed.height <= Dimensions.TILE.height());
+        assertEquals(renderer.getRoomFrame().getWidth(), renderer.updateRoom(RoomChange.entered(bedroom)).width);
+    }
+
+    @Test
+    void testPatchedFrameMatchesAFullComposition() {
+        renderer.updateRoomImage(office);
+        office.getGameObjects().stream()
+            .filter(obj -> "Torch".equals(obj.getName()))
+            .findFirst()
+            .ifPresent(office::removeGameObject);
+        renderer.updateRoomImage(office);
+        final RoomFrame patched = renderer.getRoomFrame();
+        final RoomFrame composed = new RoomRendererImpl(office).getRoomFrame();
+        assertArrayEquals(pixels(composed), pixels(patched));
+    }
+
+    private static int[] pixels(final RoomFrame frame) {
+        final BufferedImage image = new BufferedImage(frame.getWidth(), frame.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = image.createGraphics();
+        frame.draw(g, 0, 0, frame.getWidth(), frame.getHeight(), null);
+        g.dispose();
+        return image.getRGB(0, 0, frame.getWidth(), frame.getHeight(), null, 0, frame.getWidth());
+    }
+
+    private static Room getRoom(final List<Room> rooms, final String name) {
+        return rooms.stream().filter(room -> name.equals(room.getName())).findFirst().get();
+    }
+}
@@ -0,0 +1,70 @@
+package mindescape.view.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Color;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import mindescape.view.api.RoomFrame;
+
+/**
+ * Test class for {@link ScaledFrameCache}.
+ */
+final class ScaledFrameCacheTest {
+
+    private static final int SIZE = 256;
+    private static final double SCALING = 2.5;
+    private ScaledFrameCache cache;
+    private RoomFrame frame;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ScaledFrameCache();
+        frame = new RoomFrame(new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_4BYTE_ABGR), 1);
+    }
+
+    // CHECKSTYLE: MagicNumber OFF
+    // Magic numbers in a test are acceptable
+    @Test
+    void testSteadyStateDoesNotRescale() {
+        final Image first = cache.get(frame, SCALING, null);
+        for (int i = 0; i < 100; i++) {
+            assertSame(first, cache.get(frame, SCALING, null));
+        }
+        assertEquals(1, cache.getRebuildCount());
+        assertEquals((int) (SIZE * SCALING), first.getWidth(null));
+    }
+
+    @Test
+    void testRebuildOnResizeAndRoomChange() {
+        cache.get(frame, SCALING, null);
+        cache.get(frame, SCALING * 2, null);
+        assertEquals(2, cache.getRebuildCount());
+        final RoomFrame changed = new RoomFrame(new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_4BYTE_ABGR), 2);
+        cache.get(changed, SCALING * 2, null);
+        cache.get(changed, SCALING * 2, null);
+        assertEquals(3, cache.getRebuildCount());
+    }
+
+    @Test
+    void testDerivedFrameIsPatched() {
+        final Image first = cache.get(frame, SCALING, null);
+        final BufferedImage image = new BufferedImage(SIZE, SIZE, BufferedImage.TYPE_4BYTE_ABGR);
+        image.setRGB(20, 20, Color.RED.getRGB());
+        final RoomFrame derived = new RoomFrame(image, 2, 1, new Rectangle(16, 16, 16, 16));
+        assertSame(first, cache.get(derived, SCALING, null));
+        assertEquals(1, cache.getRebuildCount());
+        assertEquals(1, cache.getPatchCount());
+        assertEquals(Color.RED.getRGB(), ((BufferedImage) first).getRGB((int) (20 * SCALING), (int) (20 * SCALING)));
+        final RoomFrame unrelated = new RoomFrame(image, 3, 1, new Rectangle(0, 0, 1, 1));
+        cache.get(unrelated, SCALING, null);
+        assertEquals(2, cache.getRebuildCount());
+    }
+    // CHECKSTYLE: MagicNumber ON
+}
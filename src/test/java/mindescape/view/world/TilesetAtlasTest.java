@@ -0,0 +1,67 @@
+package mindescape.view.world;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.tiledreader.TiledMap;
+import org.tiledreader.TiledTile;
+import org.tiledreader.TiledTileLayer;
+
+import mindescape.model.world.rooms.api.Room;
+import mindescape.model.world.rooms.impl.RoomImpl;
+import mindescape.model.world.rooms.impl.TiledMapRepository;
+
+/**
+ * Test class for {@link TilesetAtlas}.
+ */
+final class TilesetAtlasTest {
+
+    private final TilesetAtlas atlas = TilesetAtlas.getInstance();
+
+    @Test
+    void testEachTilesetIsDecodedOnce() {
+        final List<Room> rooms = RoomImpl.createRooms();
+        for (int i = 0; i < 2; i++) {
+            rooms.forEach(room -> requestAllTiles(TiledMapRepository.getInstance().getMap(room.getSource())));
+        }
+        final int decodes = atlas.getDecodeCount();
+        rooms.forEach(room -> requestAllTiles(TiledMapRepository.getInstance().getMap(room.getSource())));
+        assertTrue(decodes > 0);
+        assertEquals(decodes, atlas.getDecodeCount());
+        assertTrue(atlas.getSavedDecodes() > decodes);
+    }
+
+    @Test
+    void testTilesAreShared() {
+        final Room bedroom = RoomImpl.createRooms().stream()
+            .filter(room -> "bedroom".equals(room.getName()))
+            .findFirst().get();
+        final TiledMap map = TiledMapRepository.getInstance().getMap(bedroom.getSource());
+        final TiledTileLayer layer = map.getNonGroupLayers().stream()
+            .filter(l -> l instanceof TiledTileLayer)
+            .map(l -> (TiledTileLayer) l)
+            .findFirst().get();
+        final TiledTile tile = layer.getTile(0, 0);
+        assertSame(atlas.getTile(tile, false, false), atlas.getTile(tile, false, false));
+    }
+
+    private void requestAllTiles(final TiledMap map) {
+        map.getNonGroupLayers().stream()
+            .filter(layer -> layer instanceof TiledTileLayer)
+            .map(layer -> (TiledTileLayer) layer)
+            .forEach(layer -> {
+                for (int x = 0; x < map.getWidth(); x++) {
+                    for (int y = 0; y < map.getHeight(); y++) {
+                        final TiledTile tile = layer.getTile(x, y);
+                        if (tile != null) {
+                            atlas.getTile(tile, layer.getTileHorizontalFlip(x, y), layer.getTileDiagonalFlip(x, y));
+                        }
+                    }
+                }
+            });
+    }
+}